@@ -0,0 +1,40 @@
+package com.catalog.application;
+
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public final class CompletionStages {
+
+    private CompletionStages() {
+    }
+
+    /**
+     * The asynchronous form of {@code Try.of(...).toEither().bimap(Notification::create, mapper)}, to be
+     * passed to {@link java.util.concurrent.CompletionStage#handle}.
+     */
+    public static <T, OUT> BiFunction<T, Throwable, Either<Notification, OUT>> toEither(
+            final Function<? super T, ? extends OUT> mapper
+    ) {
+        return (value, error) -> error == null ? Right(mapper.apply(value)) : Left(notificationOf(error));
+    }
+
+    public static Notification notificationOf(final Throwable error) {
+        return Notification.create(unwrap(error));
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        var cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,135 @@
+package com.catalog.application;
+
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+/**
+ * Runs use cases on virtual threads, at most {@code maxConcurrency} at once per downstream, so a slow gateway
+ * only holds back the use cases that call it. Failures complete with a {@code Left}.
+ */
+public class VirtualThreadUseCaseExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    // use cases run without a downstream share these
+    private final Semaphore permits;
+    private final Map<Object, Semaphore> downstreams = new ConcurrentHashMap<>();
+
+    public VirtualThreadUseCaseExecutor(final int maxConcurrency) {
+        this(maxConcurrency, Map.of());
+    }
+
+    /**
+     * Gives every downstream in {@code limits} its own number of permits instead of {@code maxConcurrency}.
+     */
+    public VirtualThreadUseCaseExecutor(final int maxConcurrency, final Map<?, Integer> limits) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("'maxConcurrency' must be positive");
+        }
+        limits.forEach((downstream, limit) -> {
+            if (limit == null || limit <= 0) {
+                throw new IllegalArgumentException("the limit of every downstream must be positive");
+            }
+            downstreams.put(downstream, new Semaphore(limit));
+        });
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("use-case-", 0).factory());
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public <IN, OUT> CompletableFuture<Either<Notification, OUT>> execute(
+            final UseCase<IN, Either<Notification, OUT>> useCase,
+            final IN input
+    ) {
+        return submit(permits, () -> useCase.execute(input));
+    }
+
+    public <IN> CompletableFuture<Either<Notification, Void>> execute(final UnitUseCase<IN> useCase, final IN input) {
+        return submit(permits, () -> {
+            useCase.execute(input);
+            return Right(null);
+        });
+    }
+
+    public <OUT> CompletableFuture<Either<Notification, OUT>> execute(final NullaryUseCase<OUT> useCase) {
+        return submit(permits, () -> Right(useCase.execute()));
+    }
+
+    // runs under the permits of downstream, typically the gateway the use case calls
+    public <IN, OUT> CompletableFuture<Either<Notification, OUT>> execute(
+            final Object downstream,
+            final UseCase<IN, Either<Notification, OUT>> useCase,
+            final IN input
+    ) {
+        return submit(permitsOf(downstream), () -> useCase.execute(input));
+    }
+
+    public <IN> CompletableFuture<Either<Notification, Void>> execute(
+            final Object downstream,
+            final UnitUseCase<IN> useCase,
+            final IN input
+    ) {
+        return submit(permitsOf(downstream), () -> {
+            useCase.execute(input);
+            return Right(null);
+        });
+    }
+
+    public <OUT> CompletableFuture<Either<Notification, OUT>> execute(final Object downstream, final NullaryUseCase<OUT> useCase) {
+        return submit(permitsOf(downstream), () -> Right(useCase.execute()));
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int availablePermits(final Object downstream) {
+        return permitsOf(downstream).availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private Semaphore permitsOf(final Object downstream) {
+        Objects.requireNonNull(downstream, "'downstream' cannot be null");
+        return downstreams.computeIfAbsent(downstream, key -> new Semaphore(maxConcurrency));
+    }
+
+    private <OUT> CompletableFuture<Either<Notification, OUT>> submit(
+            final Semaphore permits,
+            final Supplier<Either<Notification, OUT>> task
+    ) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Left(Notification.create(new Error("use case was interrupted while waiting for a permit")));
+            }
+            try {
+                return Try.of(task::get)
+                        .toEither()
+                        .fold(error -> Left(Notification.create(error)), Function.identity());
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,18 @@
+package com.catalog.application.category.activation;
+
+import com.catalog.domain.category.CategorySearchQuery;
+
+import java.util.List;
+
+/**
+ * Targets either explicit ids or every category matching {@code filter}; exactly one of them is set.
+ */
+public record BulkActivationCommand(List<String> ids, CategorySearchQuery filter, boolean isActive) {
+    public static BulkActivationCommand byIds(final List<String> ids, final boolean isActive) {
+        return new BulkActivationCommand(List.copyOf(ids), null, isActive);
+    }
+
+    public static BulkActivationCommand byFilter(final CategorySearchQuery filter, final boolean isActive) {
+        return new BulkActivationCommand(null, filter, isActive);
+    }
+}
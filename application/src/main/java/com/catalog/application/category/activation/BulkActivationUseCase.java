@@ -0,0 +1,13 @@
+package com.catalog.application.category.activation;
+
+import com.catalog.application.UseCase;
+import com.catalog.application.category.update.UpdateCategoryOutput;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Map;
+
+public abstract class BulkActivationUseCase
+        extends UseCase<BulkActivationCommand, Map<String, Either<Notification, UpdateCategoryOutput>>> {
+
+}
@@ -0,0 +1,129 @@
+package com.catalog.application.category.activation;
+
+import com.catalog.application.category.update.UpdateCategoryOutput;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+/**
+ * Toggles the targeted categories a page at a time with one {@link CategoryGateway#updateAll} per page.
+ * Ids are reported under the strings the caller sent. A filter is walked in its own sort and direction;
+ * an ascending walk by update time meets toggled categories again and leaves them as they are. A failed
+ * page is read back to report each category by the state it reached.
+ */
+public class DefaultBulkActivationUseCase extends BulkActivationUseCase {
+
+    static final int PAGE_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final Clock clock;
+
+    public DefaultBulkActivationUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, Clock.systemUTC());
+    }
+
+    public DefaultBulkActivationUseCase(final CategoryGateway categoryGateway, final Clock clock) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Map<String, Either<Notification, UpdateCategoryOutput>> execute(final BulkActivationCommand input) {
+        final var toggled = new LinkedHashMap<CategoryId, Either<Notification, UpdateCategoryOutput>>();
+        final var now = Clock.fixed(clock.instant(), clock.getZone());
+        if (input.filter() == null) {
+            return toggleAll(input.ids(), input.isActive(), now);
+        }
+        final var filter = input.filter();
+        final var walk = new CategorySearchQuery(0, PAGE_SIZE, filter.terms(), filter.sort(), filter.direction());
+        try (final var categories = categoryGateway.stream(walk)) {
+            final var page = new ArrayList<Category>(PAGE_SIZE);
+            final var iterator = categories.iterator();
+            while (iterator.hasNext()) {
+                page.add(iterator.next());
+                if (page.size() == PAGE_SIZE || !iterator.hasNext()) {
+                    toggle(page, input.isActive(), now, toggled);
+                    page.clear();
+                }
+            }
+        }
+        final var results = new LinkedHashMap<String, Either<Notification, UpdateCategoryOutput>>(Math.max(16, toggled.size() * 4 / 3 + 1));
+        toggled.forEach((id, result) -> results.put(id.getValue(), result));
+        return results;
+    }
+
+    private Map<String, Either<Notification, UpdateCategoryOutput>> toggleAll(
+            final List<String> ids,
+            final boolean isActive,
+            final Clock now
+    ) {
+        final var parsed = new LinkedHashMap<String, CategoryId>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            try {
+                parsed.put(id, CategoryId.from(id));
+            } catch (final IllegalArgumentException ex) {
+                parsed.put(id, null);
+            }
+        }
+        final var wanted = new LinkedHashSet<CategoryId>(parsed.values());
+        wanted.remove(null);
+        final var found = wanted.isEmpty() ? List.<Category>of() : List.copyOf(categoryGateway.findAllById(wanted).values());
+        final var toggled = new HashMap<CategoryId, Either<Notification, UpdateCategoryOutput>>(Math.max(16, found.size() * 4 / 3 + 1));
+        for (int from = 0; from < found.size(); from += PAGE_SIZE) {
+            toggle(found.subList(from, Math.min(from + PAGE_SIZE, found.size())), isActive, now, toggled);
+        }
+        final var results = new LinkedHashMap<String, Either<Notification, UpdateCategoryOutput>>(Math.max(16, parsed.size() * 4 / 3 + 1));
+        parsed.forEach((input, id) -> results.put(input, id == null
+                ? Left(Notification.create(CategoryErrors.ID_INVALID))
+                : toggled.getOrDefault(id, Left(Notification.create(CategoryErrors.NOT_FOUND)))));
+        return results;
+    }
+
+    private void toggle(
+            final List<Category> page,
+            final boolean isActive,
+            final Clock now,
+            final Map<CategoryId, Either<Notification, UpdateCategoryOutput>> results
+    ) {
+        final var changed = new ArrayList<Category>(page.size());
+        for (final var category : page) {
+            results.put(category.getId(), Right(UpdateCategoryOutput.from(category)));
+            if (category.isActive() != isActive) {
+                final var copy = Category.with(category);
+                changed.add(isActive ? copy.activate(now) : copy.deactivate(now));
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        final var outcome = Try.of(() -> categoryGateway.updateAll(changed)).toEither().mapLeft(Notification::create);
+        if (outcome.isRight()) {
+            return;
+        }
+        final var ids = changed.stream().map(Category::getId).toList();
+        final var current = Try.of(() -> categoryGateway.findAllById(ids)).getOrElse(Map.of());
+        for (final var id : ids) {
+            final var category = current.get(id);
+            results.put(id, category != null && category.isActive() == isActive
+                    ? Right(UpdateCategoryOutput.from(category))
+                    : Left(outcome.getLeft()));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.catalog.application.category.create;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletionStage;
+
+public abstract class AsyncCreateCategoryUseCase
+        extends UseCase<CreateCategoryCommand, CompletionStage<Either<Notification, CreateCategoryOutput>>> {
+
+}
@@ -0,0 +1,34 @@
+package com.catalog.application.category.create;
+
+import com.catalog.application.CompletionStages;
+import com.catalog.domain.category.AsyncCategoryGateway;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static io.vavr.API.Left;
+
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncCreateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletionStage<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand input) {
+        final var notification = Notification.create();
+        final var category = Category.newCategory(input.name(), input.description(), input.isActive());
+        category.validate(notification);
+
+        if (notification.hasErrors()) {
+            return CompletableFuture.completedFuture(Left(notification));
+        }
+        return categoryGateway.create(category).handle(CompletionStages.toEither(CreateCategoryOutput::from));
+    }
+}
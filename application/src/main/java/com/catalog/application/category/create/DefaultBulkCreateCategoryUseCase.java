@@ -0,0 +1,95 @@
+package com.catalog.application.category.create;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryIdGenerator;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class DefaultBulkCreateCategoryUseCase extends BulkCreateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final Clock clock;
+    private final CategoryIdGenerator idGenerator;
+
+    public DefaultBulkCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, Clock.systemUTC());
+    }
+
+    /**
+     * Stamps every category of a batch with {@code clock}; a clock that caches its instant, like the
+     * infrastructure's coarse clock, saves a system clock read per category.
+     */
+    public DefaultBulkCreateCategoryUseCase(final CategoryGateway categoryGateway, final Clock clock) {
+        this(categoryGateway, clock, CategoryIdGenerator.random());
+    }
+
+    public DefaultBulkCreateCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final Clock clock,
+            final CategoryIdGenerator idGenerator
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.clock = Objects.requireNonNull(clock);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> input) {
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(input.size());
+        final var valid = new ArrayList<Category>(input.size());
+        final var validPositions = new ArrayList<Integer>(input.size());
+
+        for (final var command : input) {
+            final var notification = Notification.create();
+            final var category = Category.newCategory(idGenerator.next(), command.name(), command.description(), command.isActive(), clock);
+            category.validate(notification);
+            if (notification.hasErrors()) {
+                results.add(Left(notification));
+            } else {
+                validPositions.add(results.size());
+                valid.add(category);
+                results.add(null);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            createAll(valid, validPositions, results);
+        }
+        return results;
+    }
+
+    // a failed batch may have stored part of it; the ids are fresh, so whatever is found now was created by it
+    private void createAll(
+            final List<Category> categories,
+            final List<Integer> positions,
+            final List<Either<Notification, CreateCategoryOutput>> results
+    ) {
+        final var outcome = Try.of(() -> categoryGateway.createAll(categories)).toEither().mapLeft(Notification::create);
+        if (outcome.isRight()) {
+            final var created = outcome.get();
+            for (int i = 0; i < positions.size(); i++) {
+                results.set(positions.get(i), Right(CreateCategoryOutput.from(created.get(i))));
+            }
+            return;
+        }
+        final var ids = categories.stream().map(Category::getId).toList();
+        final var current = Try.of(() -> categoryGateway.findAllById(ids)).getOrElse(Map.of());
+        for (int i = 0; i < positions.size(); i++) {
+            final var category = current.get(ids.get(i));
+            results.set(positions.get(i), category != null
+                    ? Right(CreateCategoryOutput.from(category))
+                    : Left(outcome.getLeft()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.catalog.application.category.create;
 
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryIdGenerator;
 import com.catalog.domain.validation.handler.Notification;
 import com.catalog.domain.validation.handler.ThrowsValidationHandler;
 import io.vavr.control.Either;
@@ -15,9 +16,15 @@ import static io.vavr.API.Right;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final CategoryIdGenerator idGenerator;
 
     public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this(categoryGateway, CategoryIdGenerator.random());
+    }
+
+    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway, final CategoryIdGenerator idGenerator) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
@@ -26,7 +33,7 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
         final var description = input.description();
         final var isActive = input.isActive();
         final var notification = Notification.create();
-        final var category = Category.newCategory(name, description, isActive);
+        final var category = Category.newCategory(idGenerator.next(), name, description, isActive);
         category.validate(notification);
 
         return notification.hasErrors() ? Left(notification) : create(category);
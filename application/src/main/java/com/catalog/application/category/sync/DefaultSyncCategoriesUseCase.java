@@ -0,0 +1,39 @@
+package com.catalog.application.category.sync;
+
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+
+public class DefaultSyncCategoriesUseCase extends SyncCategoriesUseCase {
+
+    static final int MAX_LIMIT = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultSyncCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, SyncCategoriesOutput> execute(final SyncCategoriesCommand input) {
+        if (input.limit() <= 0) {
+            return Left(Notification.create(CategoryErrors.LIMIT_INVALID));
+        }
+        final var limit = Math.min(input.limit(), MAX_LIMIT);
+        return Try.of(() -> categoryGateway.changesSince(watermarkOf(input), limit))
+                .toEither()
+                .bimap(Notification::create, SyncCategoriesOutput::from);
+    }
+
+    // no watermark means a first sync, which replays the whole feed
+    private static CategoryWatermark watermarkOf(final SyncCategoriesCommand input) {
+        return input.watermark() == null || input.watermark().isBlank() ? null : CategoryWatermark.decode(input.watermark());
+    }
+}
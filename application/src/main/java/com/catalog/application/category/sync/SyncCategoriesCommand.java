@@ -0,0 +1,7 @@
+package com.catalog.application.category.sync;
+
+public record SyncCategoriesCommand(String watermark, int limit) {
+    public static SyncCategoriesCommand with(final String watermark, final int limit) {
+        return new SyncCategoriesCommand(watermark, limit);
+    }
+}
@@ -0,0 +1,29 @@
+package com.catalog.application.category.sync;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a replica has to apply to catch up: categories to store and ids to drop, deactivated ones
+ * included. {@code watermark} goes into the next sync; with {@code hasMore} it should follow right away.
+ */
+public record SyncCategoriesOutput(List<Category> upserted, List<CategoryId> removed, String watermark, boolean hasMore) {
+    public static SyncCategoriesOutput from(final CategoryChanges changes) {
+        final var upserted = new ArrayList<Category>(changes.changes().size());
+        final var removed = new ArrayList<CategoryId>();
+        for (final CategoryChange change : changes.changes()) {
+            if (change.isTombstone()) {
+                removed.add(change.id());
+            } else {
+                upserted.add(change.category());
+            }
+        }
+        final var watermark = changes.watermark() == null ? null : changes.watermark().encode();
+        return new SyncCategoriesOutput(List.copyOf(upserted), List.copyOf(removed), watermark, changes.hasMore());
+    }
+}
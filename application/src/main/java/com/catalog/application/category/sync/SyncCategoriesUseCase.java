@@ -0,0 +1,9 @@
+package com.catalog.application.category.sync;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class SyncCategoriesUseCase extends UseCase<SyncCategoriesCommand, Either<Notification, SyncCategoriesOutput>> {
+
+}
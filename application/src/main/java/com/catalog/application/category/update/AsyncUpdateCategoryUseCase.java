@@ -0,0 +1,12 @@
+package com.catalog.application.category.update;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.concurrent.CompletionStage;
+
+public abstract class AsyncUpdateCategoryUseCase
+        extends UseCase<UpdateCategoryCommand, CompletionStage<Either<Notification, UpdateCategoryOutput>>> {
+
+}
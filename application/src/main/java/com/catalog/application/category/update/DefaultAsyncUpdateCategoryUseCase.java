@@ -0,0 +1,54 @@
+package com.catalog.application.category.update;
+
+import com.catalog.application.CompletionStages;
+import com.catalog.domain.category.AsyncCategoryGateway;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static io.vavr.API.Left;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncUpdateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletionStage<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand input) {
+        final CategoryId id;
+        try {
+            id = CategoryId.from(input.id());
+        } catch (final RuntimeException ex) {
+            return CompletableFuture.completedFuture(Left(Notification.create(CategoryErrors.ID_INVALID)));
+        }
+        return CompletableFuture.completedFuture(id)
+                .thenCompose(categoryGateway::findById)
+                .thenCompose(found -> found
+                        .map(category -> update(category, input))
+                        .orElseGet(() -> CompletableFuture.completedFuture(Left(Notification.create(CategoryErrors.NOT_FOUND)))))
+                .exceptionally(error -> Left(CompletionStages.notificationOf(error)));
+    }
+
+    private CompletionStage<Either<Notification, UpdateCategoryOutput>> update(
+            final Category found,
+            final UpdateCategoryCommand input
+    ) {
+        final var notification = Notification.create();
+        final var category = Category.with(found).update(input.name(), input.description(), input.isActive());
+        category.validate(notification);
+
+        if (notification.hasErrors()) {
+            return CompletableFuture.completedFuture(Left(notification));
+        }
+        return categoryGateway.update(category).handle(CompletionStages.toEither(UpdateCategoryOutput::from));
+    }
+}
@@ -0,0 +1,48 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+
+public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand input) {
+        return Try.of(() -> CategoryId.from(input.id()))
+                .toEither()
+                .mapLeft(error -> Notification.create(CategoryErrors.ID_INVALID))
+                .flatMap(id -> Try.of(() -> categoryGateway.findById(id))
+                        .toEither()
+                        .mapLeft(Notification::create))
+                .flatMap(found -> found
+                        .map(category -> update(category, input))
+                        .orElseGet(() -> Left(Notification.create(CategoryErrors.NOT_FOUND))));
+    }
+
+    private Either<Notification, UpdateCategoryOutput> update(final Category found, final UpdateCategoryCommand input) {
+        final var notification = Notification.create();
+        // the gateway may hand out a shared instance, so the changes are applied to a copy
+        final var category = Category.with(found).update(input.name(), input.description(), input.isActive());
+        category.validate(notification);
+        if (notification.hasErrors()) {
+            return Left(notification);
+        }
+        return Try.of(() -> categoryGateway.update(category))
+                .toEither()
+                .bimap(Notification::create, UpdateCategoryOutput::from);
+    }
+}
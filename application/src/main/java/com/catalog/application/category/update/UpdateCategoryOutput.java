@@ -0,0 +1,10 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+
+public record UpdateCategoryOutput(CategoryId id) {
+    public static UpdateCategoryOutput from(final Category category) {
+        return new UpdateCategoryOutput(category.getId());
+    }
+}
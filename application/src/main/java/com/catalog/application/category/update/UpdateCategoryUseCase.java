@@ -0,0 +1,9 @@
+package com.catalog.application.category.update;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class UpdateCategoryUseCase extends UseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+
+}
@@ -0,0 +1,127 @@
+package com.catalog.application;
+
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vavr.API.Right;
+
+public class VirtualThreadUseCaseExecutorTest {
+
+    @Test
+    public void givenManyCalls_whenExecutedOnVirtualThreads_shouldNeverExceedTheConcurrencyLimit() {
+        final var expectedLimit = 4;
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var useCase = new UseCase<Integer, Either<Notification, Integer>>() {
+            @Override
+            public Either<Notification, Integer> execute(final Integer input) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return Right(input * 2);
+            }
+        };
+
+        try (final var executor = new VirtualThreadUseCaseExecutor(expectedLimit)) {
+            final var futures = new ArrayList<CompletableFuture<Either<Notification, Integer>>>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.execute(useCase, i));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            Assertions.assertEquals(398, futures.getLast().join().get().intValue());
+            Assertions.assertTrue(maxRunning.get() <= expectedLimit);
+            Assertions.assertEquals(expectedLimit, executor.availablePermits());
+        }
+    }
+
+    @Test
+    public void givenASaturatedDownstream_whenExecutesOnAnother_shouldNotWaitForItsPermits() throws Exception {
+        final var slow = new Object();
+        final var fast = new Object();
+        final var started = new CountDownLatch(2);
+        final var release = new CountDownLatch(1);
+        final var blocking = new NullaryUseCase<String>() {
+            @Override
+            public String execute() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+        };
+        final var immediate = new NullaryUseCase<String>() {
+            @Override
+            public String execute() {
+                return "fast";
+            }
+        };
+
+        try (final var executor = new VirtualThreadUseCaseExecutor(1, Map.of(slow, 2))) {
+            final var slowCalls = List.of(executor.execute(slow, blocking), executor.execute(slow, blocking), executor.execute(slow, blocking));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Assertions.assertEquals("fast", executor.execute(fast, immediate).get(5, TimeUnit.SECONDS).get());
+            Assertions.assertEquals("fast", executor.execute(immediate).get(5, TimeUnit.SECONDS).get());
+            Assertions.assertEquals(0, executor.availablePermits(slow));
+            Assertions.assertEquals(1, executor.availablePermits(fast));
+
+            release.countDown();
+            slowCalls.forEach(call -> Assertions.assertEquals("slow", call.join().get()));
+            Assertions.assertEquals(2, executor.availablePermits(slow));
+        }
+    }
+
+    @Test
+    public void givenAUseCaseThatThrows_whenExecuted_shouldCompleteWithANotification() {
+        final var expectedErrorMessage = "Gateway exception";
+        final var useCase = new NullaryUseCase<String>() {
+            @Override
+            public String execute() {
+                throw new IllegalStateException(expectedErrorMessage);
+            }
+        };
+
+        try (final var executor = new VirtualThreadUseCaseExecutor(1)) {
+            final var actualOutput = executor.execute(useCase).join();
+
+            Assertions.assertTrue(actualOutput.isLeft());
+            Assertions.assertEquals(expectedErrorMessage, actualOutput.getLeft().firstError().message());
+        }
+    }
+
+    @Test
+    public void givenAUnitUseCase_whenExecuted_shouldRunOnAVirtualThread() {
+        final var virtual = new AtomicInteger();
+        final var useCase = new UnitUseCase<String>() {
+            @Override
+            public void execute(final String input) {
+                if (Thread.currentThread().isVirtual()) {
+                    virtual.incrementAndGet();
+                }
+            }
+        };
+
+        try (final var executor = new VirtualThreadUseCaseExecutor(1)) {
+            Assertions.assertTrue(executor.execute(useCase, "ok").join().isRight());
+            Assertions.assertEquals(1, virtual.get());
+        }
+    }
+}
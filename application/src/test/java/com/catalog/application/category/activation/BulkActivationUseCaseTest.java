@@ -0,0 +1,130 @@
+package com.catalog.application.category.activation;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkActivationUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+
+    private DefaultBulkActivationUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void setUp() {
+        useCase = new DefaultBulkActivationUseCase(categoryGateway, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void givenIds_whenCallsBulkDeactivate_shouldLoadOnceWriteOnceAndReportEveryId() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, false);
+        final var missing = CategoryId.unique();
+        final var command = BulkActivationCommand.byIds(
+                List.of(filmes.getId().getValue(), series.getId().getValue(), missing.getValue(), "not-an-id"),
+                false
+        );
+
+        Mockito.when(categoryGateway.findAllById(Mockito.any())).thenReturn(Map.of(filmes.getId(), filmes, series.getId(), series));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertEquals(filmes.getId(), actualOutput.get(filmes.getId().getValue()).get().id());
+        Assertions.assertTrue(actualOutput.get(series.getId().getValue()).isRight());
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualOutput.get(missing.getValue()).getLeft().firstError());
+        Assertions.assertEquals("'id' is invalid", actualOutput.get("not-an-id").getLeft().firstError().message());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllById(Mockito.argThat(ids -> ids.size() == 3));
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(Mockito.argThat(categories ->
+                categories.size() == 1
+                        && categories.get(0).getId().equals(filmes.getId())
+                        && !categories.get(0).isActive()
+                        && categories.get(0).getUpdatedAt().equals(NOW)
+                        && categories.get(0).getDeletedAt().equals(NOW)));
+        Mockito.verify(categoryGateway, Mockito.never()).update(Mockito.any());
+    }
+
+    @Test
+    public void givenIdsNotInCanonicalForm_whenCallsBulkActivate_shouldReportThemUnderTheInputStrings() {
+        final var filmes = Category.newCategory("Filmes", null, false);
+        final var missing = CategoryId.unique();
+        final var filmesInput = filmes.getId().getValue().toUpperCase();
+        final var missingInput = missing.getValue().toUpperCase();
+
+        Mockito.when(categoryGateway.findAllById(Mockito.any())).thenReturn(Map.of(filmes.getId(), filmes));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(BulkActivationCommand.byIds(List.of(filmesInput, missingInput), true));
+
+        Assertions.assertEquals(List.of(filmesInput, missingInput), List.copyOf(actualOutput.keySet()));
+        Assertions.assertEquals(filmes.getId(), actualOutput.get(filmesInput).get().id());
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualOutput.get(missingInput).getLeft().firstError());
+    }
+
+    @Test
+    public void givenAFilterAndAPartiallyAppliedWrite_whenCallsBulkActivate_shouldReportEachCategoryByItsStoredState() {
+        final var filter = new CategorySearchQuery(3, 10, "filmes", "updatedAt", "desc");
+        final var walk = new CategorySearchQuery(0, DefaultBulkActivationUseCase.PAGE_SIZE, "filmes", "updatedAt", "desc");
+        final var inactive = Category.newCategory("Filmes", null, false);
+        final var stored = Category.newCategory("Filmes novos", null, false);
+        final var active = Category.newCategory("Filmes antigos", null, true);
+
+        Mockito.when(categoryGateway.stream(Mockito.eq(walk))).thenReturn(Stream.of(inactive, stored, active));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenThrow(new IllegalStateException("Gateway exception"));
+        Mockito.when(categoryGateway.findAllById(Mockito.any()))
+                .thenReturn(Map.of(inactive.getId(), inactive, stored.getId(), Category.with(stored).activate()));
+
+        final var actualOutput = useCase.execute(BulkActivationCommand.byFilter(filter, true));
+
+        Assertions.assertEquals("Gateway exception", actualOutput.get(inactive.getId().getValue()).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(stored.getId().getValue()).isRight());
+        Assertions.assertTrue(actualOutput.get(active.getId().getValue()).isRight());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllById(Mockito.argThat(ids -> ids.size() == 2));
+    }
+
+    @Test
+    public void givenAFilterMatchingMoreThanAPage_whenCallsBulkDeactivate_shouldWriteOnePageAtATime() {
+        final var filter = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var walk = new CategorySearchQuery(0, DefaultBulkActivationUseCase.PAGE_SIZE, "", "name", "asc");
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i <= DefaultBulkActivationUseCase.PAGE_SIZE; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        Mockito.when(categoryGateway.stream(Mockito.eq(walk))).thenReturn(categories.stream());
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(BulkActivationCommand.byFilter(filter, false));
+
+        Assertions.assertEquals(categories.size(), actualOutput.size());
+        Assertions.assertTrue(actualOutput.values().stream().allMatch(Either::isRight));
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(Mockito.argThat(page -> page.size() == DefaultBulkActivationUseCase.PAGE_SIZE));
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(Mockito.argThat(page -> page.size() == 1));
+    }
+}
@@ -0,0 +1,59 @@
+package com.catalog.application.category.create;
+
+import com.catalog.domain.category.AsyncCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncCreateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncCreateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_shouldCompleteWithCategoryId() {
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).toCompletableFuture().join().get();
+
+        Assertions.assertNotNull(actualOutput.id());
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .create(Mockito.argThat(aCategory -> aCategory.getName().equals("Filmes")));
+    }
+
+    @Test
+    public void givenAInvalidName_whenCallsCreateCategory_shouldCompleteWithNotificationWithoutCallingTheGateway() {
+        final var aCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+
+        final var actualNotification = useCase.execute(aCommand).toCompletableFuture().join().getLeft();
+
+        Assertions.assertEquals("'name' should not be null", actualNotification.firstError().message());
+        Mockito.verify(categoryGateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsCreateCategory_shouldCompleteWithNotification() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException(expectedErrorMessage)));
+
+        final var actualNotification = useCase.execute(aCommand).toCompletableFuture().join().getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, actualNotification.firstError().message());
+    }
+}
@@ -0,0 +1,133 @@
+package com.catalog.application.category.create;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryIdGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCategoryUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private DefaultBulkCreateCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void setUp() {
+        useCase = new DefaultBulkCreateCategoryUseCase(categoryGateway, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldPersistValidOnesInOneBatch() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Series", null, false)
+        );
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(commands);
+
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertNotNull(actualOutput.get(0).get().id());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(Mockito.argThat(categories ->
+                categories.size() == 2
+                        && categories.get(0).getName().equals("Filmes")
+                        && categories.get(1).getName().equals("Series")
+                        && !categories.get(1).isActive()
+                        && categories.stream().allMatch(category -> category.getCreatedAt().equals(NOW))));
+        Mockito.verify(categoryGateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenATimeOrderedIdGenerator_whenCallsBulkCreate_shouldCreateTheBatchInIdOrder() {
+        final var useCase = new DefaultBulkCreateCategoryUseCase(categoryGateway, Clock.fixed(NOW, ZoneOffset.UTC), CategoryIdGenerator.timeOrdered());
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true),
+                CreateCategoryCommand.with("Animes", null, true)
+        );
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(commands);
+
+        Assertions.assertTrue(actualOutput.get(0).get().id().compareTo(actualOutput.get(1).get().id()) < 0);
+        Assertions.assertTrue(actualOutput.get(1).get().id().compareTo(actualOutput.get(2).get().id()) < 0);
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsBulkCreate_shouldNotCallTheGateway() {
+        final var commands = List.of(CreateCategoryCommand.with(" ", null, true));
+
+        final var actualOutput = useCase.execute(commands);
+
+        Assertions.assertEquals("'name' should not be empty", actualOutput.getFirst().getLeft().firstError().message());
+        Mockito.verify(categoryGateway, Mockito.never()).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayFailure_whenCallsBulkCreate_shouldReturnTheErrorForEveryValidCommand() {
+        final var expectedErrorMessage = "Gateway exception";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("fi", null, true),
+                CreateCategoryCommand.with("Series", null, true)
+        );
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(commands);
+
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().firstError().message());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(2).getLeft().firstError().message());
+    }
+
+    @Test
+    public void givenABatchThatFailsHalfway_whenCallsBulkCreate_shouldReportTheStoredOnesAsCreated() {
+        final var expectedErrorMessage = "Gateway exception";
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Series", null, true)
+        );
+        final var stored = new HashMap<CategoryId, Category>();
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            stored.put(categories.getFirst().getId(), categories.getFirst());
+            throw new IllegalStateException(expectedErrorMessage);
+        });
+        Mockito.when(categoryGateway.findAllById(Mockito.any())).thenAnswer(invocation -> Map.copyOf(stored));
+
+        final var actualOutput = useCase.execute(commands);
+
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals(stored.keySet().iterator().next(), actualOutput.get(0).get().id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().firstError().message());
+    }
+}
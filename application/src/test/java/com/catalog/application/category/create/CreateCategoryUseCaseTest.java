@@ -2,11 +2,13 @@ package com.catalog.application.category.create;
 
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryIdGenerator;
 import com.catalog.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,12 +17,29 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 @ExtendWith(MockitoExtension.class)
 public class CreateCategoryUseCaseTest {
 
-    @InjectMocks
     private DefaultCreateCategoryUseCase useCase;
 
     @Mock
     private CategoryGateway categoryGateway;
 
+    @BeforeEach
+    public void setUp() {
+        useCase = new DefaultCreateCategoryUseCase(categoryGateway);
+    }
+
+    @Test
+    public void givenAnIdGenerator_whenCallsCreateCategory_shouldCreateTheCategoryWithTheGeneratedId() {
+        final var expectedId = CategoryId.unique();
+        final CategoryIdGenerator idGenerator = () -> expectedId;
+        final var useCase = new DefaultCreateCategoryUseCase(categoryGateway, idGenerator);
+
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get();
+
+        Assertions.assertEquals(expectedId, actualOutput.id());
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId(){
         final var expectedName = "Filmes";
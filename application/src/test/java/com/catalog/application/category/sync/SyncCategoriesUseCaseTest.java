@@ -0,0 +1,71 @@
+package com.catalog.application.category.sync;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryWatermark;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@ExtendWith(MockitoExtension.class)
+public class SyncCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultSyncCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenAWatermark_whenCallsSync_shouldSplitChangesIntoUpsertsAndRemovals() {
+        final var after = new CategoryWatermark(Instant.parse("2024-01-01T00:00:00Z"), CategoryId.unique());
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, false);
+        final var deletedId = CategoryId.unique();
+        final var deleted = CategoryChange.deleted(deletedId, Instant.parse("2024-01-03T00:00:00Z"));
+        final var changes = new CategoryChanges(
+                List.of(CategoryChange.upserted(filmes.getUpdatedAt(), filmes), CategoryChange.upserted(series.getUpdatedAt(), series), deleted),
+                deleted.watermark(),
+                true
+        );
+
+        Mockito.when(categoryGateway.changesSince(Mockito.eq(after), Mockito.eq(DefaultSyncCategoriesUseCase.MAX_LIMIT))).thenReturn(changes);
+
+        final var actualOutput = useCase.execute(SyncCategoriesCommand.with(after.encode(), 5000)).get();
+
+        Assertions.assertEquals(List.of(filmes), actualOutput.upserted());
+        Assertions.assertEquals(List.of(series.getId(), deletedId), actualOutput.removed());
+        Assertions.assertEquals(deleted.watermark(), CategoryWatermark.decode(actualOutput.watermark()));
+        Assertions.assertTrue(actualOutput.hasMore());
+    }
+
+    @Test
+    public void givenAMalformedWatermark_whenCallsSync_shouldReturnNotificationWithoutReadingTheFeed() {
+        final var actualNotification = useCase.execute(SyncCategoriesCommand.with("yesterday", 100)).getLeft();
+
+        Assertions.assertEquals("'watermark' is invalid", actualNotification.firstError().message());
+        Assertions.assertEquals(CategoryErrors.WATERMARK_INVALID, actualNotification.firstError());
+        Mockito.verify(categoryGateway, Mockito.never()).changesSince(any(), anyInt());
+    }
+
+    @Test
+    public void givenANonPositiveLimit_whenCallsSync_shouldReturnNotificationWithoutReadingTheFeed() {
+        final var actualNotification = useCase.execute(SyncCategoriesCommand.with(null, 0)).getLeft();
+
+        Assertions.assertEquals(CategoryErrors.LIMIT_INVALID, actualNotification.firstError());
+        Mockito.verify(categoryGateway, Mockito.never()).changesSince(any(), anyInt());
+    }
+}
@@ -0,0 +1,84 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.AsyncCategoryGateway;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncUpdateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncUpdateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_shouldCompleteWithCategoryId() {
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida", false);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(category)));
+        Mockito.when(categoryGateway.update(any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(command).toCompletableFuture().join().get();
+
+        Assertions.assertEquals(expectedId, actualOutput.id());
+        Mockito.verify(categoryGateway, Mockito.times(1)).update(argThat(update ->
+                update.getName().equals("Filmes")
+                        && !update.isActive()
+                        && update.getDeletedAt() != null));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsUpdateCategory_shouldCompleteWithNotFound() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        final var actualNotification = useCase.execute(command).toCompletableFuture().join().getLeft();
+
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualNotification.firstError());
+        Mockito.verify(categoryGateway, Mockito.never()).update(any());
+    }
+
+    @Test
+    public void givenAMalformedId_whenCallsUpdateCategory_shouldCompleteWithInvalidId() {
+        final var command = UpdateCategoryCommand.with("not-an-id", "Filmes", null, true);
+
+        final var actualNotification = useCase.execute(command).toCompletableFuture().join().getLeft();
+
+        Assertions.assertEquals(CategoryErrors.ID_INVALID, actualNotification.firstError());
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenALookupThatThrows_whenCallsUpdateCategory_shouldCompleteWithTheFailure() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(any())).thenThrow(new IllegalStateException("gateway down"));
+
+        final var actualNotification = useCase.execute(command).toCompletableFuture().join().getLeft();
+
+        Assertions.assertEquals("gateway down", actualNotification.firstError().message());
+    }
+}
@@ -1,6 +1,7 @@
 package com.catalog.application.category.update;
 
 import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
 import com.catalog.domain.category.CategoryGateway;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -56,4 +57,27 @@ public class UpdateCategoryUseCaseTest {
                 && update.getUpdatedAt().isAfter(category.getUpdatedAt())
                 && update.getDeletedAt() == null));
     }
+
+    @Test
+    public void givenAMalformedId_whenCallsUpdateCategory_shouldReturnInvalidId() {
+        final var command = UpdateCategoryCommand.with("not-an-id", "Filmes", null, true);
+
+        final var actualNotification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(CategoryErrors.ID_INVALID, actualNotification.firstError());
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenAFailingLookup_whenCallsUpdateCategory_shouldReturnTheFailure() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(any())).thenThrow(new IllegalStateException("gateway down"));
+
+        final var actualNotification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals("gateway down", actualNotification.firstError().message());
+        Mockito.verify(categoryGateway, Mockito.never()).update(any());
+    }
 }
@@ -0,0 +1,50 @@
+package com.catalog.benchmarks.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+@State(Scope.Thread)
+public class CategoryBenchmark {
+
+    private final CategoryIdGenerator timeOrdered = CategoryIdGenerator.timeOrdered();
+    private String lowerCaseId;
+    private String upperCaseId;
+
+    @Setup
+    public void setUp() {
+        lowerCaseId = UUID.randomUUID().toString();
+        upperCaseId = lowerCaseId.toUpperCase();
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true);
+    }
+
+    @Benchmark
+    public CategoryId categoryIdUnique() {
+        return CategoryId.unique();
+    }
+
+    @Benchmark
+    public CategoryId categoryIdTimeOrdered() {
+        return timeOrdered.next();
+    }
+
+    @Benchmark
+    public CategoryId categoryIdFromLowerCaseString() {
+        return CategoryId.from(lowerCaseId);
+    }
+
+    @Benchmark
+    public CategoryId categoryIdFromUpperCaseString() {
+        return CategoryId.from(upperCaseId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.catalog.benchmarks.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.infrastructure.category.codec.CategoryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+@State(Scope.Thread)
+public class CategoryCodecBenchmark {
+
+    private Category category;
+    private ByteBuffer encoded;
+    private ByteBuffer target;
+
+    @Setup
+    public void setUp() {
+        category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        encoded = ByteBuffer.wrap(CategoryCodec.encode(category));
+        target = ByteBuffer.allocate(CategoryCodec.encodedSize(category));
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        CategoryCodec.encode(category, target.clear());
+        return target;
+    }
+
+    @Benchmark
+    public Category decode() {
+        return CategoryCodec.decode(encoded.rewind());
+    }
+}
@@ -0,0 +1,80 @@
+package com.catalog.benchmarks.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryValidator;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import com.catalog.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+@State(Scope.Thread)
+public class CategoryValidationBenchmark {
+
+    private Category valid;
+    private Category invalid;
+
+    @Setup
+    public void setUp() {
+        valid = Category.newCategory("  Filmes  ", "A categoria mais assistida", true);
+        invalid = Category.newCategory("fi", "A categoria mais assistida", true);
+    }
+
+    // the success path is expected to report gc.alloc.rate.norm ~0 B/op: the trimmed length is computed in place
+    // and Notification only allocates its error list on the first error
+    @Benchmark
+    public boolean validCategoryWithNotification() {
+        final var notification = Notification.create();
+        valid.validate(notification);
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public boolean validatorWithNotification() {
+        final var notification = Notification.create();
+        new CategoryValidator(valid, notification).validate();
+        return notification.hasErrors();
+    }
+
+    @Benchmark
+    public void validatorWithThrowsHandler(final Blackhole blackhole) {
+        final var handler = new ThrowsValidationHandler();
+        new CategoryValidator(valid, handler).validate();
+        blackhole.consume(handler);
+    }
+
+    @Benchmark
+    public boolean invalidWithNotification() {
+        final var notification = Notification.create();
+        invalid.validate(notification);
+        return notification.hasErrors();
+    }
+
+    // baseline for the invalid path: what every failure used to cost (a fresh Error, list and exception)
+    @Benchmark
+    public Object adHocDomainException() {
+        return DomainException.with(List.of(new Error("'name' must be between 3 and 255 characters")));
+    }
+
+    @Benchmark
+    public Object cataloguedDomainException() {
+        return DomainException.with(CategoryErrors.NAME_LENGTH);
+    }
+
+    @Benchmark
+    public Object invalidWithThrowsHandler() {
+        try {
+            invalid.validate(new ThrowsValidationHandler());
+            return null;
+        } catch (final DomainException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.catalog.benchmarks.category;
+
+import com.catalog.application.category.create.CreateCategoryCommand;
+import com.catalog.application.category.create.CreateCategoryOutput;
+import com.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.catalog.domain.validation.handler.Notification;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class CreateCategoryUseCaseBenchmark {
+
+    private final CreateCategoryCommand valid = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+    private final CreateCategoryCommand invalid = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+    private DefaultCreateCategoryUseCase useCase;
+
+    // a fresh gateway per iteration keeps the index size, and so the insert cost, comparable across runs
+    @Setup(Level.Iteration)
+    public void setUp() {
+        useCase = new DefaultCreateCategoryUseCase(new InMemoryCategoryGateway());
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeValid() {
+        return useCase.execute(valid);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeInvalid() {
+        return useCase.execute(invalid);
+    }
+}
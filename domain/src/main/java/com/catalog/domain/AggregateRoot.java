@@ -1,8 +1,40 @@
 package com.catalog.domain;
 
+import com.catalog.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+    // allocated on the first event, so aggregates that are only read cost nothing
+    private List<DomainEvent> domainEvents;
 
     protected AggregateRoot(final ID id) {
         super(id);
     }
+
+    protected void registerEvent(final DomainEvent event) {
+        Objects.requireNonNull(event, "'event' cannot be null");
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>(2);
+        }
+        domainEvents.add(event);
+    }
+
+    public boolean hasDomainEvents() {
+        return domainEvents != null && !domainEvents.isEmpty();
+    }
+
+    /**
+     * Returns the events recorded since the last call, in the order they happened, and forgets them.
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        if (domainEvents == null) {
+            return List.of();
+        }
+        final var events = List.copyOf(domainEvents);
+        domainEvents = null;
+        return events;
+    }
 }
@@ -0,0 +1,19 @@
+package com.catalog.domain.category;
+
+import com.catalog.domain.pagination.Pagination;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking counterpart of {@link CategoryGateway}. Implementations return without waiting on I/O
+ * and report failures by completing the stage exceptionally rather than throwing.
+ */
+public interface AsyncCategoryGateway {
+    CompletionStage<Category> create(Category category);
+    CompletionStage<Void> deleteById(CategoryId id);
+    CompletionStage<Optional<Category>> findById(CategoryId id);
+    CompletionStage<Category> update(Category category);
+    CompletionStage<Pagination<Category>> findAll(CategorySearchQuery query);
+    CompletionStage<CategoryChanges> changesSince(CategoryWatermark after, int limit);
+}
@@ -3,15 +3,19 @@ package com.catalog.domain.category;
 import com.catalog.domain.AggregateRoot;
 import com.catalog.domain.validation.ValidationHandler;
 
+import java.time.Clock;
 import java.time.Instant;
 
 public class Category extends AggregateRoot<CategoryId> {
+    private static final Clock SYSTEM_CLOCK = Clock.systemUTC();
+
     private String name;
     private String description;
     private boolean active;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final long version;
 
     private Category(
             final CategoryId id,
@@ -20,7 +24,8 @@ public class Category extends AggregateRoot<CategoryId> {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
         super(id);
         this.name = name;
@@ -29,13 +34,75 @@ public class Category extends AggregateRoot<CategoryId> {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category newCategory(final String name, final String description, final boolean active){
-        final CategoryId id = CategoryId.unique();
-        final var now = Instant.now();
+        return newCategory(CategoryId.unique(), name, description, active, SYSTEM_CLOCK);
+    }
+
+    public static Category newCategory(final String name, final String description, final boolean active, final Clock clock){
+        return newCategory(CategoryId.unique(), name, description, active, clock);
+    }
+
+    public static Category newCategory(final CategoryId id, final String name, final String description, final boolean active){
+        return newCategory(id, name, description, active, SYSTEM_CLOCK);
+    }
+
+    public static Category newCategory(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Clock clock
+    ){
+        final var now = clock.instant();
         final var deletedAt = active?null:now;
-        return new Category(id, name, description, active, now, now, deletedAt);
+        final var category = new Category(id, name, description, active, now, now, deletedAt, 0);
+        category.registerEvent(CategoryCreated.from(category));
+        return category;
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        return new Category(id, name, description, active, createdAt, updatedAt, deletedAt, version);
+    }
+
+    public static Category with(final Category aCategory) {
+        return with(aCategory, aCategory.getVersion());
+    }
+
+    public static Category with(final Category aCategory, final long version) {
+        return with(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                version
+        );
     }
 
     public CategoryId getId() {
@@ -48,31 +115,60 @@ public class Category extends AggregateRoot<CategoryId> {
     }
 
     public Category deactivate() {
-        final Instant now = Instant.now();
-        if(getDeletedAt() == null){
-            this.deletedAt = now;
-        }
-        this.active = false;
-        this.updatedAt = now;
-        return this;
+        return deactivate(SYSTEM_CLOCK);
+    }
+
+    public Category deactivate(final Clock clock) {
+        return deactivate(clock.instant());
     }
 
     public Category activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
-        return this;
+        return activate(SYSTEM_CLOCK);
+    }
+
+    public Category activate(final Clock clock) {
+        return activate(clock.instant());
     }
 
     public Category update(final String name, final String description, final boolean active) {
+        return update(name, description, active, SYSTEM_CLOCK);
+    }
+
+    // reads the clock once, so deletedAt and updatedAt of one update always agree
+    public Category update(final String name, final String description, final boolean active, final Clock clock) {
+        final var now = clock.instant();
         if(active){
-            activate();
+            activate(now);
         } else{
-            deactivate();
+            deactivate(now);
         }
         this.name = name;
         this.description = description;
-        this.updatedAt = Instant.now();
+        registerEvent(CategoryUpdated.from(this));
+        return this;
+    }
+
+    private Category deactivate(final Instant now) {
+        if(getDeletedAt() == null){
+            this.deletedAt = now;
+        }
+        final var wasActive = this.active;
+        this.active = false;
+        this.updatedAt = now;
+        if (wasActive) {
+            registerEvent(new CategoryDeactivated(id, now));
+        }
+        return this;
+    }
+
+    private Category activate(final Instant now) {
+        final var wasActive = this.active;
+        this.deletedAt = null;
+        this.active = true;
+        this.updatedAt = now;
+        if (!wasActive) {
+            registerEvent(new CategoryActivated(id, now));
+        }
         return this;
     }
 
@@ -99,4 +195,9 @@ public class Category extends AggregateRoot<CategoryId> {
     public Instant getDeletedAt() {
         return deletedAt;
     }
+
+    // the number of writes the stored aggregate had when this instance was read, 0 for a new one
+    public long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
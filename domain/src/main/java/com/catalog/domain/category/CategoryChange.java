@@ -0,0 +1,30 @@
+package com.catalog.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Latest change of one category. A deleted category keeps a change without a category, and together
+ * with deactivated ones it is a tombstone: consumers should drop it from what they serve.
+ */
+public record CategoryChange(CategoryId id, Instant changedAt, Category category) {
+
+    public static CategoryChange upserted(final Instant changedAt, final Category category) {
+        return new CategoryChange(category.getId(), changedAt, category);
+    }
+
+    public static CategoryChange deleted(final CategoryId id, final Instant changedAt) {
+        return new CategoryChange(id, changedAt, null);
+    }
+
+    public boolean isDeleted() {
+        return category == null;
+    }
+
+    public boolean isTombstone() {
+        return category == null || !category.isActive();
+    }
+
+    public CategoryWatermark watermark() {
+        return new CategoryWatermark(changedAt, id);
+    }
+}
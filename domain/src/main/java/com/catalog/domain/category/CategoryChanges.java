@@ -0,0 +1,10 @@
+package com.catalog.domain.category;
+
+import java.util.List;
+
+/**
+ * A page of the change feed, ordered by change time and id. {@code watermark} is where the next page
+ * starts; it stays the requested one when nothing changed.
+ */
+public record CategoryChanges(List<CategoryChange> changes, CategoryWatermark watermark, boolean hasMore) {
+}
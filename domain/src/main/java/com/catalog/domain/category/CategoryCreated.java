@@ -0,0 +1,22 @@
+package com.catalog.domain.category;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+        CategoryId categoryId,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements CategoryEvent {
+
+    public static CategoryCreated from(final Category category) {
+        return new CategoryCreated(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package com.catalog.domain.category;
+
+import java.time.Instant;
+
+public record CategoryDeactivated(CategoryId categoryId, Instant occurredOn) implements CategoryEvent {
+}
@@ -0,0 +1,40 @@
+package com.catalog.domain.category;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+public final class CategoryErrors {
+
+    public static final Error NAME_NULL = catalogue("category.name.null", "'name' should not be null");
+    public static final Error NAME_EMPTY = catalogue("category.name.empty", "'name' should not be empty");
+    public static final Error NAME_LENGTH = catalogue(
+            "category.name.length",
+            "'name' must be between %d and %d characters".formatted(CategoryValidator.NAME_MIN_LENGTH, CategoryValidator.NAME_MAX_LENGTH)
+    );
+    public static final Error NOT_FOUND = catalogue("category.not_found", "category was not found");
+    public static final Error VERSION_CONFLICT = catalogue(
+            "category.version.conflict",
+            "category was changed by someone else since it was read"
+    );
+    public static final Error ALREADY_EXISTS = catalogue("category.already_exists", "category already exists");
+    public static final Error TOO_LARGE = catalogue("category.too_large", "category is too large to store");
+    public static final Error ID_INVALID = catalogue("category.id.invalid", "'id' is invalid");
+    public static final Error CURSOR_INVALID = catalogue("category.cursor.invalid", "'cursor' is invalid");
+    public static final Error CURSOR_SORT_MISMATCH = catalogue(
+            "category.cursor.sort_mismatch",
+            "'cursor' does not match the requested sort"
+    );
+    public static final Error LIMIT_INVALID = catalogue("category.limit.invalid", "'limit' must be positive");
+    public static final Error WATERMARK_INVALID = catalogue("category.watermark.invalid", "'watermark' is invalid");
+    public static final Error WATERMARK_EXPIRED = catalogue(
+            "category.watermark.expired",
+            "'watermark' is older than the change feed keeps, sync again without one"
+    );
+
+    private CategoryErrors() {
+    }
+
+    private static Error catalogue(final String code, final String message) {
+        return DomainException.catalogue(new Error(code, message));
+    }
+}
@@ -0,0 +1,9 @@
+package com.catalog.domain.category;
+
+import com.catalog.domain.event.DomainEvent;
+
+public sealed interface CategoryEvent extends DomainEvent
+        permits CategoryCreated, CategoryUpdated, CategoryActivated, CategoryDeactivated {
+
+    CategoryId categoryId();
+}
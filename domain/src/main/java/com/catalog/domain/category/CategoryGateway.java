@@ -2,12 +2,55 @@ package com.catalog.domain.category;
 
 import com.catalog.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface CategoryGateway {
+    long UNKNOWN_TOTAL = -1;
+
     Category create(Category category);
     void deleteById(CategoryId id);
     Optional<Category> findById(CategoryId id);
     Category update(Category category);
     Pagination<Category> findAll(CategorySearchQuery query);
+
+    // like findAll, but the total may be UNKNOWN_TOTAL
+    default Pagination<Category> findPage(final CategorySearchQuery query) {
+        return findAll(query);
+    }
+
+    default List<Category> createAll(final List<Category> categories) {
+        return categories.stream().map(this::create).toList();
+    }
+
+    // in the order of ids, missing ones left out
+    default Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        return CategoryMultiGet.findAll(this, ids);
+    }
+
+    default List<Category> updateAll(final List<Category> categories) {
+        return categories.stream().map(this::update).toList();
+    }
+
+    // lazily fetches perPage categories at a time from the page or cursor of query on
+    default Stream<Category> stream(final CategorySearchQuery query) {
+        final var iterator = new CategoryPageIterator(this, query);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    default long count(final CategorySearchQuery query) {
+        return findAll(new CategorySearchQuery(0, 0, query.terms(), query.sort(), query.direction())).total();
+    }
+
+    // up to limit changes after the watermark, or from the start when it is null, tombstones included
+    CategoryChanges changesSince(CategoryWatermark after, int limit);
 }
@@ -5,37 +5,93 @@ import com.catalog.domain.Identifier;
 import java.util.Objects;
 import java.util.UUID;
 
-public class CategoryId extends Identifier {
-    private final String value;
-    private CategoryId(final String value) {
-        Objects.requireNonNull(value, "'value' cannot be null");
-        this.value = value;
+public class CategoryId extends Identifier implements Comparable<CategoryId> {
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private String value;
+
+    private CategoryId(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
     }
 
     public static CategoryId unique(){
         return CategoryId.from(UUID.randomUUID());
     }
     public static CategoryId from(final UUID value) {
-        return CategoryId.from(value.toString());
+        Objects.requireNonNull(value, "'value' cannot be null");
+        return new CategoryId(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+    public static CategoryId from(final long mostSignificantBits, final long leastSignificantBits) {
+        return new CategoryId(mostSignificantBits, leastSignificantBits);
     }
     public static CategoryId from(final String value) {
-        return new CategoryId(value.toLowerCase());
+        Objects.requireNonNull(value, "'value' cannot be null");
+        if (!isCanonical(value)) {
+            return CategoryId.from(UUID.fromString(value));
+        }
+        final long msb = (parseHex(value, 0, 8) << 32) | (parseHex(value, 9, 13) << 16) | parseHex(value, 14, 18);
+        final long lsb = (parseHex(value, 19, 23) << 48) | parseHex(value, 24, 36);
+        return new CategoryId(msb, lsb);
     }
 
     public String getValue() {
-        return value;
+        var rendered = this.value;
+        if (rendered == null) {
+            rendered = toUUID().toString();
+            this.value = rendered;
+        }
+        return rendered;
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    // unsigned, so the order matches the lexicographic order of the rendered value
+    @Override
+    public int compareTo(final CategoryId other) {
+        final int cmp = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        return cmp != 0 ? cmp : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
     }
 
     @Override
     public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryId that = (CategoryId) o;
-        return Objects.equals(getValue(), that.getValue());
+        return mostSignificantBits == that.mostSignificantBits && leastSignificantBits == that.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(getValue());
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
     }
-}
 
+    private static boolean isCanonical(final String value) {
+        return value.length() == 36
+                && value.charAt(8) == '-'
+                && value.charAt(13) == '-'
+                && value.charAt(18) == '-'
+                && value.charAt(23) == '-';
+    }
+
+    private static long parseHex(final String value, final int from, final int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid UUID string: " + value);
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+}
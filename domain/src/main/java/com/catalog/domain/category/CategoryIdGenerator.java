@@ -0,0 +1,14 @@
+package com.catalog.domain.category;
+
+@FunctionalInterface
+public interface CategoryIdGenerator {
+    CategoryId next();
+
+    static CategoryIdGenerator random() {
+        return CategoryId::unique;
+    }
+
+    static CategoryIdGenerator timeOrdered() {
+        return TimeOrderedCategoryIdGenerator.INSTANCE;
+    }
+}
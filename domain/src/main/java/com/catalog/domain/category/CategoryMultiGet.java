@@ -0,0 +1,24 @@
+package com.catalog.domain.category;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sequential {@link CategoryGateway#findAllById} for gateways without a native multi-get.
+ */
+final class CategoryMultiGet {
+
+    private CategoryMultiGet() {
+    }
+
+    static Map<CategoryId, Category> findAll(final CategoryGateway gateway, final Collection<CategoryId> ids) {
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            if (!found.containsKey(id)) {
+                gateway.findById(id).ifPresent(category -> found.put(id, category));
+            }
+        }
+        return found;
+    }
+}
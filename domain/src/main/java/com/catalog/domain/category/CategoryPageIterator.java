@@ -0,0 +1,55 @@
+package com.catalog.domain.category;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Walks a listing one page at a time, fetching the next page only when the current one is drained.
+ * Follows the cursor a gateway hands back and falls back to page numbers for gateways without one.
+ */
+final class CategoryPageIterator implements Iterator<Category> {
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final CategoryGateway gateway;
+    private CategorySearchQuery next;
+    private Iterator<Category> current = Collections.emptyIterator();
+
+    CategoryPageIterator(final CategoryGateway gateway, final CategorySearchQuery query) {
+        this.gateway = gateway;
+        this.next = query.perPage() > 0
+                ? query
+                : new CategorySearchQuery(query.page(), DEFAULT_PAGE_SIZE, query.terms(), query.sort(), query.direction(), query.cursor());
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext() && next != null) {
+            final var query = next;
+            final var page = gateway.findPage(query);
+            current = page.items().iterator();
+            next = nextQuery(query, page.items().size(), page.nextCursor());
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public Category next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private static CategorySearchQuery nextQuery(final CategorySearchQuery query, final int size, final String nextCursor) {
+        if (nextCursor != null) {
+            return query.withCursor(nextCursor);
+        }
+        // once paging by cursor, a missing cursor is the end; otherwise only a short page is
+        if (query.hasCursor() || size < query.perPage()) {
+            return null;
+        }
+        return new CategorySearchQuery(query.page() + 1, query.perPage(), query.terms(), query.sort(), query.direction());
+    }
+}
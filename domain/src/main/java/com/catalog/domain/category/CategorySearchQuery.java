@@ -5,6 +5,24 @@ public record CategorySearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor
 ) {
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery withCursor(final String cursor) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -0,0 +1,22 @@
+package com.catalog.domain.category;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+        CategoryId categoryId,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements CategoryEvent {
+
+    public static CategoryUpdated from(final Category category) {
+        return new CategoryUpdated(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getUpdatedAt()
+        );
+    }
+}
@@ -1,5 +1,4 @@
 package com.catalog.domain.category;
-import com.catalog.domain.validation.Error;
 import com.catalog.domain.validation.ValidationHandler;
 import com.catalog.domain.validation.Validator;
 
@@ -20,16 +19,29 @@ public class CategoryValidator extends Validator{
     private void checkNameConstraints() {
         final var name = this.category.getName();
         if(name==null){
-            this.validationHandler().append(new Error("'name' should not be null"));
+            this.validationHandler().append(CategoryErrors.NAME_NULL);
             return;
         }
         if(name.isBlank()){
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            this.validationHandler().append(CategoryErrors.NAME_EMPTY);
             return;
         }
-        final int length = name.trim().length();
+        final int length = trimmedLength(name);
         if(length > NAME_MAX_LENGTH || length< NAME_MIN_LENGTH){
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 characters"));
+            this.validationHandler().append(CategoryErrors.NAME_LENGTH);
         }
     }
+
+    // same bounds as String#trim, without allocating the trimmed copy
+    private static int trimmedLength(final String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
 }
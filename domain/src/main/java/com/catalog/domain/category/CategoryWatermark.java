@@ -0,0 +1,52 @@
+package com.catalog.domain.category;
+
+import com.catalog.domain.exceptions.DomainException;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Position in the change feed: the change time and id of the last change a consumer has applied.
+ * The encoded form is opaque to consumers, who only hand it back on their next sync.
+ */
+public record CategoryWatermark(Instant changedAt, CategoryId id) implements Comparable<CategoryWatermark> {
+
+    private static final Comparator<CategoryWatermark> ORDER = Comparator
+            .comparing(CategoryWatermark::changedAt)
+            .thenComparing(CategoryWatermark::id);
+
+    public CategoryWatermark {
+        Objects.requireNonNull(changedAt, "'changedAt' cannot be null");
+        Objects.requireNonNull(id, "'id' cannot be null");
+    }
+
+    public static CategoryWatermark decode(final String value) {
+        final var separator = value.indexOf('~');
+        final var dot = value.indexOf('.');
+        if (separator < 0 || dot < 0 || dot > separator) {
+            throw invalid();
+        }
+        try {
+            return new CategoryWatermark(
+                    Instant.ofEpochSecond(Long.parseLong(value, 0, dot, 10), Long.parseLong(value, dot + 1, separator, 10)),
+                    CategoryId.from(value.substring(separator + 1))
+            );
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        return changedAt.getEpochSecond() + "." + changedAt.getNano() + "~" + id.getValue();
+    }
+
+    @Override
+    public int compareTo(final CategoryWatermark other) {
+        return ORDER.compare(this, other);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(CategoryErrors.WATERMARK_INVALID);
+    }
+}
@@ -0,0 +1,43 @@
+package com.catalog.domain.category;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUIDv7 ids: Unix millis, a per-thread counter and random bits. Not meant to be unguessable.
+ */
+final class TimeOrderedCategoryIdGenerator implements CategoryIdGenerator {
+
+    static final TimeOrderedCategoryIdGenerator INSTANCE = new TimeOrderedCategoryIdGenerator();
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final int COUNTER_MASK = 0xFFF;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private TimeOrderedCategoryIdGenerator() {
+    }
+
+    @Override
+    public CategoryId next() {
+        final var random = ThreadLocalRandom.current();
+        final var state = STATE.get();
+        final var now = System.currentTimeMillis();
+        if (now > state.millis) {
+            state.millis = now;
+            state.counter = random.nextInt(COUNTER_MASK >> 1);
+        } else if (++state.counter > COUNTER_MASK) {
+            // counter exhausted or clock went back
+            state.millis++;
+            state.counter = 0;
+        }
+        final long msb = (state.millis << 16) | VERSION | state.counter;
+        final long lsb = VARIANT | (random.nextLong() >>> 2);
+        return CategoryId.from(msb, lsb);
+    }
+
+    private static final class State {
+        private long millis = -1;
+        private int counter;
+    }
+}
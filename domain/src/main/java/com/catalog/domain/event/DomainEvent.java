@@ -0,0 +1,8 @@
+package com.catalog.domain.event;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    Instant occurredOn();
+}
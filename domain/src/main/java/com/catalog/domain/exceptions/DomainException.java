@@ -1,9 +1,14 @@
 package com.catalog.domain.exceptions;
 import com.catalog.domain.validation.Error;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DomainException extends NoStacktraceException {
 
+    // only errors registered through catalogue(), so the map is bounded by the catalogue itself
+    private static final Map<Error, DomainException> SHARED = new ConcurrentHashMap<>();
+
     private final List<Error> errors;
 
     private DomainException(final String aMessage, final List<Error> errors) {
@@ -11,11 +16,31 @@ public class DomainException extends NoStacktraceException {
         this.errors = errors;
     }
 
+    private DomainException(final Error anError) {
+        super(anError.message(), null, false);
+        this.errors = List.of(anError);
+    }
+
+    /**
+     * Registers a static catalogue error, so every {@link #with(Error)} of it returns one immutable instance.
+     */
+    public static Error catalogue(final Error error) {
+        SHARED.computeIfAbsent(error, DomainException::new);
+        return error;
+    }
+
     public static DomainException with(final Error errors) {
+        final var shared = SHARED.get(errors);
+        if (shared != null) {
+            return shared;
+        }
         return new DomainException(errors.message(),List.of(errors));
     }
 
     public static DomainException with(final List<Error> errors) {
+        if (errors.size() == 1) {
+            return with(errors.getFirst());
+        }
         return new DomainException(errors.getFirst().message(),errors);
     }
 
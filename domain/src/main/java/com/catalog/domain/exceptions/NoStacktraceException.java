@@ -5,6 +5,9 @@ public class NoStacktraceException extends RuntimeException {
         this(message, null);
     }
     public NoStacktraceException(final String message, final Throwable cause) {
-        super(message, cause, true, false);
+        this(message, cause, true);
+    }
+    protected NoStacktraceException(final String message, final Throwable cause, final boolean enableSuppression) {
+        super(message, cause, enableSuppression, false);
     }
 }
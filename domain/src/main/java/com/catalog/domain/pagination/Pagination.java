@@ -6,6 +6,14 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor
 ) {
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
 }
@@ -1,4 +1,7 @@
 package com.catalog.domain.validation;
 
-public record Error(String message) {
+public record Error(String code, String message) {
+    public Error(final String message) {
+        this(null, message);
+    }
 }
@@ -8,30 +8,40 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Notification implements ValidationHandler {
-    private final List<Error> errors;
-    private Notification(List<Error> errors) {
-        this.errors = errors;
+    // allocated on the first error, so a passing validation costs nothing
+    private List<Error> errors;
+    private Notification() {
     }
 
     public static Notification create(){
-        return new Notification(new ArrayList<>());
+        return new Notification();
     }
     public static Notification create(final Error error){
-        return new Notification(new ArrayList<>()).append(error);
+        return new Notification().append(error);
     }
     public static Notification create(final Throwable error){
+        if (error instanceof DomainException domainException) {
+            return new Notification().append(domainException);
+        }
         return create(new Error(error.getMessage()));
     }
 
     @Override
     public Notification append(final Error anError) {
-        this.errors.add(anError);
+        mutableErrors().add(anError);
         return this;
     }
 
     @Override
     public Notification append(final ValidationHandler anHandler) {
-        this.errors.addAll(anHandler.getErrors());
+        if (anHandler.hasErrors()) {
+            mutableErrors().addAll(anHandler.getErrors());
+        }
+        return this;
+    }
+
+    private Notification append(final DomainException anException) {
+        mutableErrors().addAll(anException.getErrors());
         return this;
     }
 
@@ -40,15 +50,27 @@ public class Notification implements ValidationHandler {
         try {
             aValidation.validate();
         } catch(final DomainException ex){
-            this.errors.addAll(ex.getErrors());
+            append(ex);
         } catch(final Throwable ex){
-            this.errors.add(new Error(ex.getMessage()));
+            mutableErrors().add(new Error(ex.getMessage()));
         }
         return this;
     }
 
     @Override
     public List<Error> getErrors() {
+        return this.errors == null ? List.of() : this.errors;
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    private List<Error> mutableErrors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>(1);
+        }
         return this.errors;
     }
 }
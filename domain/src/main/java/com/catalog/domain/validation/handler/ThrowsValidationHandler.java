@@ -9,7 +9,7 @@ import java.util.List;
 public class ThrowsValidationHandler implements ValidationHandler {
     @Override
     public ValidationHandler append(Error anError) {
-        throw DomainException.with(List.of(anError));
+        throw DomainException.with(anError);
     }
 
     @Override
@@ -21,8 +21,10 @@ public class ThrowsValidationHandler implements ValidationHandler {
     public ValidationHandler validate(Validation aValidation) {
         try{
             aValidation.validate();
+        } catch (final DomainException e) {
+            throw e;
         } catch (final Exception e) {
-            throw DomainException.with(List.of(new Error(e.getMessage())));
+            throw DomainException.with(new Error(e.getMessage()));
         }
         return this;
     }
@@ -0,0 +1,111 @@
+package com.catalog.domain.category;
+
+import com.catalog.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CategoryGatewayTest {
+
+    @Test
+    public void givenAGatewayWithoutCursors_whenCallsStream_shouldFetchPagesOnlyAsTheyAreConsumed() {
+        final var gateway = new ListCategoryGateway(25);
+
+        final var firstTwelve = gateway.stream(new CategorySearchQuery(0, 10, null, "name", "asc")).limit(12).toList();
+
+        Assertions.assertEquals(12, firstTwelve.size());
+        Assertions.assertEquals(List.of(0, 1), gateway.requestedPages);
+        Assertions.assertEquals(0, gateway.countedPages);
+    }
+
+    @Test
+    public void givenAGatewayWithoutCursors_whenCallsStreamToTheEnd_shouldStopAfterTheShortPage() {
+        final var gateway = new ListCategoryGateway(25);
+
+        final var actualCount = gateway.stream(new CategorySearchQuery(1, 10, null, "name", "asc")).count();
+
+        Assertions.assertEquals(15, actualCount);
+        Assertions.assertEquals(List.of(1, 2), gateway.requestedPages);
+        Assertions.assertEquals(25, gateway.count(new CategorySearchQuery(1, 10, null, "name", "asc")));
+    }
+
+    @Test
+    public void givenALargeSetOfIds_whenCallsFindAllById_shouldLookThemUpOnTheCallerThreadInTheRequestedOrder() {
+        final var gateway = new ListCategoryGateway(300);
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = gateway.categories.size() - 1; i >= 0; i--) {
+            ids.add(gateway.categories.get(i).getId());
+            if (i % 100 == 0) {
+                ids.add(CategoryId.unique());
+            }
+        }
+
+        final var actualCategories = gateway.findAllById(ids);
+
+        Assertions.assertEquals(300, actualCategories.size());
+        Assertions.assertEquals(ids.stream().filter(actualCategories::containsKey).toList(), List.copyOf(actualCategories.keySet()));
+        Assertions.assertEquals("Categoria 299", actualCategories.values().iterator().next().getName());
+        Assertions.assertEquals(Set.of(Thread.currentThread().threadId()), gateway.lookupThreads);
+    }
+
+    private static final class ListCategoryGateway implements CategoryGateway {
+        private final List<Category> categories = new ArrayList<>();
+        private final List<Integer> requestedPages = new ArrayList<>();
+        private final Set<Long> lookupThreads = ConcurrentHashMap.newKeySet();
+        private int countedPages;
+
+        private ListCategoryGateway(final int size) {
+            for (int i = 0; i < size; i++) {
+                categories.add(Category.newCategory("Categoria " + i, null, true));
+            }
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            countedPages++;
+            final var page = findPage(query);
+            return new Pagination<>(page.currentPage(), page.perPage(), categories.size(), page.items());
+        }
+
+        @Override
+        public Pagination<Category> findPage(final CategorySearchQuery query) {
+            if (query.perPage() > 0) {
+                requestedPages.add(query.page());
+            }
+            final var from = Math.min(query.page() * query.perPage(), categories.size());
+            final var to = Math.min(from + query.perPage(), categories.size());
+            return new Pagination<>(query.page(), query.perPage(), UNKNOWN_TOTAL, categories.subList(from, to));
+        }
+
+        @Override
+        public Category create(final Category category) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(final CategoryId id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryId id) {
+            lookupThreads.add(Thread.currentThread().threadId());
+            return categories.stream().filter(category -> category.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public Category update(final Category category) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
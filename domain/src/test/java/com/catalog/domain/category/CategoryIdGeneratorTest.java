@@ -0,0 +1,64 @@
+package com.catalog.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CategoryIdGeneratorTest {
+
+    @Test
+    public void givenTheTimeOrderedGenerator_whenCallsNext_thenShouldReturnVersion7Ids() {
+        final var before = System.currentTimeMillis();
+        final var actualId = CategoryIdGenerator.timeOrdered().next().toUUID();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertTrue((actualId.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    public void givenTheTimeOrderedGenerator_whenCallsNextManyTimesOnOneThread_thenShouldBeStrictlyIncreasing() {
+        final var generator = CategoryIdGenerator.timeOrdered();
+        var previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            final var next = generator.next();
+            Assertions.assertTrue(previous.compareTo(next) < 0);
+            Assertions.assertTrue(previous.getValue().compareTo(next.getValue()) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    public void givenTheTimeOrderedGenerator_whenCallsNextFromManyThreads_thenShouldNotRepeatIds() throws InterruptedException {
+        final var generator = CategoryIdGenerator.timeOrdered();
+        final var ids = ConcurrentHashMap.<CategoryId>newKeySet();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                final var local = new HashSet<CategoryId>();
+                for (int i = 0; i < 20_000; i++) {
+                    local.add(generator.next());
+                }
+                ids.addAll(local);
+            }));
+        }
+        for (final var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    public void givenAnExplicitId_whenCallsNewCategory_thenShouldUseIt() {
+        final var expectedId = CategoryIdGenerator.timeOrdered().next();
+
+        final var actualCategory = Category.newCategory(expectedId, "Filmes", null, true);
+
+        Assertions.assertEquals(expectedId, actualCategory.getId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.catalog.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIdTest {
+
+    @Test
+    public void givenAnUpperCaseString_whenCallsFrom_thenShouldEqualTheLowerCaseId() {
+        final var uuid = UUID.randomUUID();
+        final var expectedValue = uuid.toString();
+
+        final var fromUpperCase = CategoryId.from(expectedValue.toUpperCase());
+        final var fromUuid = CategoryId.from(uuid);
+
+        Assertions.assertEquals(fromUuid, fromUpperCase);
+        Assertions.assertEquals(fromUuid.hashCode(), fromUpperCase.hashCode());
+        Assertions.assertEquals(expectedValue, fromUpperCase.getValue());
+        Assertions.assertEquals(uuid, fromUpperCase.toUUID());
+    }
+
+    @Test
+    public void givenANonCanonicalUuidString_whenCallsFrom_thenShouldParseIt() {
+        final var actualId = CategoryId.from("1-2-3-4-5");
+
+        Assertions.assertEquals(UUID.fromString("1-2-3-4-5"), actualId.toUUID());
+    }
+
+    @Test
+    public void givenAnInvalidString_whenCallsFrom_thenShouldThrowIllegalArgumentException() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryId.from("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CategoryId.from("not-an-id"));
+    }
+
+    @Test
+    public void givenTwoIds_whenCallsCompareTo_thenShouldFollowTheRenderedOrder() {
+        final var low = CategoryId.from("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        final var high = CategoryId.from("80000000-0000-0000-0000-000000000000");
+
+        Assertions.assertTrue(low.compareTo(high) < 0);
+        Assertions.assertTrue(high.compareTo(low) > 0);
+        Assertions.assertEquals(0, low.compareTo(CategoryId.from(low.getValue())));
+    }
+}
@@ -5,7 +5,9 @@ import com.catalog.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 
 public class CategoryTest {
     @Test
@@ -66,6 +68,16 @@ public class CategoryTest {
         Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
     }
 
+    @Test
+    public void givenANameWithSurroundingWhitespace_whenCallNewCategoryAndValidate_thenShouldCheckTheTrimmedLength() {
+        final var validCategory = Category.newCategory("\t Filmes \n", null, true);
+        final var invalidCategory = Category.newCategory("  fi\t\t\t", null, true);
+
+        Assertions.assertDoesNotThrow(() -> validCategory.validate(new ThrowsValidationHandler()));
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> invalidCategory.validate(new ThrowsValidationHandler()));
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", actualException.getErrors().getFirst().message());
+    }
+
     @Test
     public void givenAnInvalidNameLengthMoreThan255_whenCallNewCategoryAndValidate_thenShouldReceiveError() {
         final String expectedName = """
@@ -201,4 +213,51 @@ public class CategoryTest {
         Assertions.assertEquals(aCategory.getCreatedAt(), create);
         Assertions.assertNull(aCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenANewCategory_whenDeactivatedAndUpdated_thenShouldRecordEventsInOrder() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        aCategory.deactivate();
+        aCategory.update("Series", "Episodios", false);
+        final var actualEvents = aCategory.pullDomainEvents();
+
+        Assertions.assertEquals(3, actualEvents.size());
+        final var created = Assertions.assertInstanceOf(CategoryCreated.class, actualEvents.get(0));
+        Assertions.assertEquals(aCategory.getId(), created.categoryId());
+        Assertions.assertEquals("Filmes", created.name());
+        Assertions.assertInstanceOf(CategoryDeactivated.class, actualEvents.get(1));
+        final var updated = Assertions.assertInstanceOf(CategoryUpdated.class, actualEvents.get(2));
+        Assertions.assertEquals("Series", updated.name());
+        Assertions.assertFalse(updated.active());
+        Assertions.assertFalse(aCategory.hasDomainEvents());
+        Assertions.assertTrue(aCategory.pullDomainEvents().isEmpty());
+    }
+
+    @Test
+    public void givenARehydratedCategory_whenActivatedTwice_thenShouldRecordASingleActivation() {
+        final var aCategory = Category.with(CategoryId.unique(), "Filmes", null, false, Instant.now(), Instant.now(), Instant.now());
+
+        Assertions.assertFalse(aCategory.hasDomainEvents());
+        aCategory.activate();
+        aCategory.activate();
+
+        final var actualEvents = aCategory.pullDomainEvents();
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertInstanceOf(CategoryActivated.class, actualEvents.get(0));
+    }
+
+    @Test
+    public void givenAFixedClock_whenCallUpdateDeactivating_thenShouldStampEverythingWithOneInstant() {
+        final var created = Instant.parse("2024-01-01T00:00:00Z");
+        final var updated = Instant.parse("2024-02-01T00:00:00Z");
+        final var aCategory = Category.newCategory("Filmes", null, true, Clock.fixed(created, ZoneOffset.UTC));
+
+        aCategory.update("Series", null, false, Clock.fixed(updated, ZoneOffset.UTC));
+
+        Assertions.assertEquals(created, aCategory.getCreatedAt());
+        Assertions.assertEquals(updated, aCategory.getUpdatedAt());
+        Assertions.assertEquals(updated, aCategory.getDeletedAt());
+        Assertions.assertSame(aCategory.getUpdatedAt(), aCategory.getDeletedAt());
+    }
 }
@@ -0,0 +1,52 @@
+package com.catalog.domain.exceptions;
+
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class DomainExceptionTest {
+
+    @Test
+    public void givenACataloguedError_whenCallsWith_thenShouldReuseAnImmutableInstance() {
+        final var first = DomainException.with(CategoryErrors.NAME_NULL);
+        final var second = DomainException.with(List.of(CategoryErrors.NAME_NULL));
+
+        first.addSuppressed(new IllegalStateException("ignored"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(0, first.getSuppressed().length);
+        Assertions.assertEquals(0, first.getStackTrace().length);
+        Assertions.assertEquals("'name' should not be null", first.getMessage());
+        Assertions.assertEquals(List.of(CategoryErrors.NAME_NULL), first.getErrors());
+    }
+
+    @Test
+    public void givenAnAdHocError_whenCallsWith_thenShouldCreateANewInstance() {
+        final var first = DomainException.with(new Error("Gateway exception"));
+        final var second = DomainException.with(new Error("Gateway exception"));
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNull(first.getErrors().getFirst().code());
+    }
+
+    @Test
+    public void givenACodedErrorOutsideTheCatalogue_whenCallsWith_thenShouldNotShareIt() {
+        final var first = DomainException.with(new Error("category.name.null", "'name' was null at row 7"));
+        final var second = DomainException.with(new Error("category.name.null", "'name' was null at row 7"));
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(DomainException.with(CategoryErrors.NAME_NULL), DomainException.with(new Error("category.name.null", "'name' should not be null")));
+    }
+
+    @Test
+    public void givenADomainException_whenCallsNotificationCreate_thenShouldKeepTheErrorCodes() {
+        final var notification = Notification.create(DomainException.with(CategoryErrors.NAME_LENGTH));
+
+        Assertions.assertEquals("category.name.length", notification.firstError().code());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", notification.firstError().message());
+    }
+}
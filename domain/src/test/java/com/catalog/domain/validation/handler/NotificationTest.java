@@ -0,0 +1,34 @@
+package com.catalog.domain.validation.handler;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NotificationTest {
+
+    @Test
+    public void givenANewNotification_whenNothingIsAppended_thenShouldHaveNoErrors() {
+        final var notification = Notification.create();
+
+        Assertions.assertFalse(notification.hasErrors());
+        Assertions.assertTrue(notification.getErrors().isEmpty());
+        Assertions.assertNull(notification.firstError());
+    }
+
+    @Test
+    public void givenErrorsFromSeveralSources_whenAppended_thenShouldKeepThemInOrder() {
+        final var notification = Notification.create()
+                .append(new Error("first"))
+                .append(Notification.create())
+                .append(Notification.create(new Error("second")))
+                .validate(() -> {
+                    throw DomainException.with(new Error("third"));
+                });
+
+        Assertions.assertTrue(notification.hasErrors());
+        Assertions.assertEquals(3, notification.getErrors().size());
+        Assertions.assertEquals("first", notification.firstError().message());
+        Assertions.assertEquals("third", notification.getErrors().get(2).message());
+    }
+}
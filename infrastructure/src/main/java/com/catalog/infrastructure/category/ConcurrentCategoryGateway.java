@@ -0,0 +1,249 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import com.catalog.infrastructure.category.index.CategoryCursor;
+import com.catalog.infrastructure.category.index.CategorySort;
+import com.catalog.infrastructure.category.index.ConcurrentCategoryChangeLog;
+import com.catalog.infrastructure.category.index.ConcurrentCategoryTermIndex;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory gateway without a global lock: immutable snapshots in a {@link ConcurrentHashMap}, listed through
+ * skip lists per {@link CategorySort} that catch up right after each write. Updates are optimistic and fail
+ * with {@link CategoryErrors#VERSION_CONFLICT}.
+ */
+public class ConcurrentCategoryGateway implements CategoryGateway {
+
+    private static final int SELECTIVE_MATCH_RATIO = 8;
+
+    private final Map<CategoryId, Category> categories = new ConcurrentHashMap<>();
+    private final Map<CategorySort, NavigableSet<Category>> indexes = new EnumMap<>(CategorySort.class);
+    private final ConcurrentCategoryTermIndex termIndex = new ConcurrentCategoryTermIndex();
+    private final ConcurrentCategoryChangeLog changeLog;
+
+    public ConcurrentCategoryGateway() {
+        this(CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+    }
+
+    public ConcurrentCategoryGateway(final Duration tombstoneRetention) {
+        this.changeLog = new ConcurrentCategoryChangeLog(tombstoneRetention);
+        for (final var sort : CategorySort.values()) {
+            // tells apart two snapshots with the same sort key
+            this.indexes.put(sort, new ConcurrentSkipListSet<>(sort.comparator().thenComparingLong(Category::getVersion)));
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return save(category, true);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return save(category, false);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        final var removed = new Category[1];
+        final var stamp = new ConcurrentCategoryChangeLog.Stamp[1];
+        categories.computeIfPresent(id, (key, current) -> {
+            removed[0] = current;
+            stamp[0] = changeLog.stamp(null);
+            return null;
+        });
+        if (removed[0] == null) {
+            return;
+        }
+        try {
+            unindex(removed[0]);
+            termIndex.sync(id, categories::get);
+        } finally {
+            changeLog.record(stamp[0], id, true);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return Optional.ofNullable(categories.get(id)).map(Category::with);
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            final var category = categories.get(id);
+            if (category != null) {
+                found.put(id, Category.with(category));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return page(query, true);
+    }
+
+    @Override
+    public Pagination<Category> findPage(final CategorySearchQuery query) {
+        return page(query, false);
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        final var matches = matchesOf(query);
+        return matches == null ? categories.size() : matches.size();
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        return changeLog.since(after, limit, this::findAllById);
+    }
+
+    private Pagination<Category> page(final CategorySearchQuery query, final boolean withTotal) {
+        final var sort = CategorySort.from(query.sort());
+        final var descending = CategorySort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var after = query.hasCursor() ? CategoryCursor.decode(query.cursor(), sort, descending).last() : null;
+        final var offset = after != null ? 0 : (long) Math.max(query.page(), 0) * perPage;
+        final var matches = matchesOf(query);
+        if (matches != null && (long) matches.size() * SELECTIVE_MATCH_RATIO <= categories.size()) {
+            return selectivePage(query, sort, descending, after, offset, perPage, matches, withTotal);
+        }
+
+        final var items = new ArrayList<Category>(Math.min(perPage, 1024));
+        var skipped = 0L;
+        var hasMore = false;
+        for (final var category : listing(sort, descending, after)) {
+            if (!isCurrent(category) || (matches != null && !matches.contains(category.getId()))) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            if (items.size() == perPage) {
+                hasMore = true;
+                break;
+            }
+            items.add(Category.with(category));
+        }
+        final var nextCursor = hasMore && !items.isEmpty()
+                ? CategoryCursor.of(sort, descending, items.getLast()).encode()
+                : null;
+        final var total = !withTotal ? UNKNOWN_TOTAL : matches != null ? matches.size() : categories.size();
+        return new Pagination<>(query.page(), perPage, total, List.copyOf(items), nextCursor);
+    }
+
+    private Pagination<Category> selectivePage(
+            final CategorySearchQuery query,
+            final CategorySort sort,
+            final boolean descending,
+            final Category after,
+            final long offset,
+            final int perPage,
+            final Set<CategoryId> matches,
+            final boolean withTotal
+    ) {
+        final var comparator = descending ? sort.comparator().reversed() : sort.comparator();
+        final var page = matches.stream()
+                .map(categories::get)
+                .filter(category -> category != null)
+                .filter(category -> after == null || comparator.compare(category, after) > 0)
+                .sorted(comparator)
+                .skip(offset)
+                .limit(perPage + 1L)
+                .toList();
+        final var items = page.stream().limit(perPage).map(Category::with).toList();
+        final var nextCursor = page.size() > perPage && !items.isEmpty()
+                ? CategoryCursor.of(sort, descending, items.getLast()).encode()
+                : null;
+        return new Pagination<>(query.page(), perPage, withTotal ? matches.size() : UNKNOWN_TOTAL, items, nextCursor);
+    }
+
+    private Category save(final Category category, final boolean creating) {
+        final var replaced = new Category[1];
+        final var stamp = new ConcurrentCategoryChangeLog.Stamp[1];
+        final var stored = categories.compute(category.getId(), (id, current) -> {
+            if (creating ? current != null : current == null) {
+                throw DomainException.with(creating ? CategoryErrors.ALREADY_EXISTS : CategoryErrors.NOT_FOUND);
+            }
+            if (current != null && current.getVersion() != category.getVersion()) {
+                throw DomainException.with(CategoryErrors.VERSION_CONFLICT);
+            }
+            final var next = Category.with(category, category.getVersion() + 1);
+            replaced[0] = current;
+            // stamped in the write, so changes to one id are stamped in write order
+            stamp[0] = changeLog.stamp(next.getUpdatedAt());
+            return next;
+        });
+        try {
+            index(stored);
+            // a writer that replaced it before it was indexed has already unindexed it
+            if (!isCurrent(stored)) {
+                unindex(stored);
+            }
+            if (replaced[0] != null) {
+                unindex(replaced[0]);
+            }
+            termIndex.sync(stored.getId(), categories::get);
+        } finally {
+            changeLog.record(stamp[0], stored.getId(), false);
+        }
+        return Category.with(stored);
+    }
+
+    private Iterable<Category> listing(final CategorySort sort, final boolean descending, final Category after) {
+        final var index = indexes.get(sort);
+        if (after == null) {
+            return descending ? index.descendingSet() : index;
+        }
+        final var probe = Category.with(after, descending ? Long.MIN_VALUE : Long.MAX_VALUE);
+        return descending ? index.headSet(probe, false).descendingSet() : index.tailSet(probe, false);
+    }
+
+    private boolean isCurrent(final Category category) {
+        return categories.get(category.getId()) == category;
+    }
+
+    private Set<CategoryId> matchesOf(final CategorySearchQuery query) {
+        if (query.terms() == null || query.terms().isBlank()) {
+            return null;
+        }
+        return termIndex.search(query.terms());
+    }
+
+    private void index(final Category category) {
+        for (final var index : indexes.values()) {
+            index.add(category);
+        }
+    }
+
+    private void unindex(final Category category) {
+        for (final var index : indexes.values()) {
+            index.remove(category);
+        }
+    }
+}
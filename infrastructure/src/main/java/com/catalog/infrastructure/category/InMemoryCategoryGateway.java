@@ -0,0 +1,353 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.event.DomainEvent;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.event.DomainEventOutbox;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import com.catalog.infrastructure.category.index.CategoryCursor;
+import com.catalog.infrastructure.category.index.CategorySort;
+import com.catalog.infrastructure.category.index.CategoryTermIndex;
+import com.catalog.infrastructure.category.index.RankedIndex;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryCategoryGateway implements CategoryGateway {
+
+    private final Map<CategoryId, Category> categories = new HashMap<>();
+    private final Map<CategorySort, RankedIndex<Category>> indexes = new EnumMap<>(CategorySort.class);
+    private final CategoryTermIndex termIndex = new CategoryTermIndex();
+    private final CategoryChangeLog changeLog;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DomainEventOutbox outbox;
+
+    public InMemoryCategoryGateway() {
+        this(null);
+    }
+
+    /**
+     * Appends the events of every written category to {@code outbox} in the critical section that stores it.
+     */
+    public InMemoryCategoryGateway(final DomainEventOutbox outbox) {
+        this(outbox, CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+    }
+
+    public InMemoryCategoryGateway(final DomainEventOutbox outbox, final Duration tombstoneRetention) {
+        this.outbox = outbox;
+        this.changeLog = new CategoryChangeLog(tombstoneRetention);
+        for (final var sort : CategorySort.values()) {
+            this.indexes.put(sort, new RankedIndex<>(sort.comparator()));
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        save(category, true);
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        saveAll(categories, true);
+        return categories;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        saveAll(categories, false);
+        return categories;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        lock.writeLock().lock();
+        try {
+            final var previous = categories.remove(id);
+            if (previous != null) {
+                unindex(previous);
+                changeLog.deleted(id, Instant.now());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(categories.get(id)).map(Category::with);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        lock.readLock().lock();
+        try {
+            for (final var id : ids) {
+                final var category = categories.get(id);
+                if (category != null) {
+                    found.put(id, category);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.replaceAll((id, category) -> Category.with(category));
+        return found;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        save(category, false);
+        return category;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var sort = CategorySort.from(query.sort());
+        final var descending = CategorySort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var after = query.hasCursor() ? CategoryCursor.decode(query.cursor(), sort, descending).last() : null;
+        final var offset = after != null ? 0 : (int) Math.min((long) Math.max(query.page(), 0) * perPage, Integer.MAX_VALUE);
+        final var hasTerms = query.terms() != null && !query.terms().isBlank();
+
+        lock.readLock().lock();
+        try {
+            final var index = indexes.get(sort);
+            final var matches = hasTerms ? termIndex.search(query.terms()) : null;
+            final var total = hasTerms ? matches.size() : index.size();
+            final var items = new ArrayList<Category>(Math.min(perPage, total));
+            final boolean hasMore;
+            final var keep = (long) offset + perPage + 1;
+            // a walk visits about keep * size / total entries, the heap every match once
+            if (hasTerms && keep * index.size() > (long) total * total) {
+                hasMore = collectTop(matches, sort.comparator(), descending, after, offset, perPage, items);
+            } else {
+                final var iterator = after != null
+                        ? index.iteratorAfter(after, descending)
+                        : index.iterator(hasTerms ? 0 : offset, descending);
+                hasMore = collect(iterator, matches, hasTerms ? offset : 0, perPage, items);
+            }
+            final var nextCursor = hasMore && !items.isEmpty()
+                    ? CategoryCursor.of(sort, descending, items.getLast()).encode()
+                    : null;
+            return new Pagination<>(query.page(), perPage, total, List.copyOf(items), nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        final var hasTerms = query.terms() != null && !query.terms().isBlank();
+        lock.readLock().lock();
+        try {
+            return hasTerms ? termIndex.search(query.terms()).size() : categories.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        lock.readLock().lock();
+        try {
+            return changeLog.since(after, limit, this::snapshotsOf);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean collect(
+            final Iterator<Category> iterator,
+            final CategoryTermIndex.Matches matches,
+            final int offset,
+            final int perPage,
+            final List<Category> items
+    ) {
+        var skipped = 0;
+        while (iterator.hasNext()) {
+            final var category = iterator.next();
+            if (matches != null && !matches.contains(category.getId())) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            if (items.size() == perPage) {
+                return true;
+            }
+            items.add(Category.with(category));
+        }
+        return false;
+    }
+
+    // bounded max-heap: the root is the worst of the best seen so far
+    private boolean collectTop(
+            final CategoryTermIndex.Matches matches,
+            final Comparator<Category> byField,
+            final boolean descending,
+            final Category after,
+            final int offset,
+            final int perPage,
+            final List<Category> items
+    ) {
+        final var comparator = descending ? byField.reversed() : byField;
+        final var keep = (int) Math.min((long) offset + perPage + 1, Integer.MAX_VALUE);
+        final var best = new PriorityQueue<Category>(Math.min(keep, 1024), comparator.reversed());
+        for (final var id : matches.ids()) {
+            final var category = categories.get(id);
+            if (after != null && comparator.compare(category, after) <= 0) {
+                continue;
+            }
+            if (best.size() < keep) {
+                best.add(category);
+            } else if (comparator.compare(category, best.peek()) < 0) {
+                best.poll();
+                best.add(category);
+            }
+        }
+        final var ranked = new ArrayList<>(best);
+        ranked.sort(comparator);
+        for (int i = offset; i < ranked.size() && items.size() < perPage; i++) {
+            items.add(Category.with(ranked.get(i)));
+        }
+        return ranked.size() > (long) offset + perPage;
+    }
+
+    private void save(final Category category, final boolean creating) {
+        Objects.requireNonNull(category, "'category' cannot be null");
+        saveAll(List.of(category), creating);
+    }
+
+    private void saveAll(final List<Category> categories, final boolean creating) {
+        final var snapshots = categories.stream().map(Category::with).toList();
+        if (outbox == null) {
+            store(snapshots, List.of(), creating);
+            return;
+        }
+        final var capacity = outbox.capacity();
+        final var events = new ArrayList<DomainEvent>();
+        var from = 0;
+        for (int i = 0; i < categories.size(); i++) {
+            final var recorded = categories.get(i).pullDomainEvents();
+            if (!events.isEmpty() && events.size() + recorded.size() > capacity) {
+                store(snapshots.subList(from, i), events, creating);
+                events.clear();
+                from = i;
+            }
+            if (recorded.size() <= capacity) {
+                events.addAll(recorded);
+                continue;
+            }
+            // too many for one append: the aggregate goes with the first chunk, the rest once it is visible
+            store(snapshots.subList(from, i + 1), recorded.subList(0, capacity), creating);
+            for (var start = capacity; start < recorded.size(); start += capacity) {
+                store(List.of(), recorded.subList(start, Math.min(start + capacity, recorded.size())), creating);
+            }
+            from = i + 1;
+        }
+        store(snapshots.subList(from, snapshots.size()), events, creating);
+    }
+
+    private void store(final List<Category> snapshots, final List<DomainEvent> events, final boolean creating) {
+        lockWithOutboxRoom(snapshots, events, creating);
+        try {
+            snapshots.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // never waits for room while holding the lock; a rejected write appends no events
+    private void lockWithOutboxRoom(final List<Category> snapshots, final List<DomainEvent> events, final boolean creating) {
+        while (true) {
+            lock.writeLock().lock();
+            final boolean appended;
+            try {
+                ensureWritable(snapshots, creating);
+                appended = events.isEmpty() || outbox.tryAppend(events);
+            } catch (final RuntimeException ex) {
+                lock.writeLock().unlock();
+                throw ex;
+            }
+            if (appended) {
+                return;
+            }
+            lock.writeLock().unlock();
+            outbox.awaitCapacity(events.size());
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("interrupted while waiting for room in the outbox");
+            }
+        }
+    }
+
+    // a create only writes new ids, an update only existing ones
+    private void ensureWritable(final List<Category> snapshots, final boolean creating) {
+        final var created = creating ? new HashSet<CategoryId>() : null;
+        for (final var snapshot : snapshots) {
+            final var exists = categories.containsKey(snapshot.getId()) || (creating && !created.add(snapshot.getId()));
+            if (exists == creating) {
+                throw DomainException.with(creating ? CategoryErrors.ALREADY_EXISTS : CategoryErrors.NOT_FOUND);
+            }
+        }
+    }
+
+    private void put(final Category snapshot) {
+        final var previous = categories.put(snapshot.getId(), snapshot);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(snapshot);
+        changeLog.upserted(snapshot.getId(), snapshot.getUpdatedAt());
+    }
+
+    private Map<CategoryId, Category> snapshotsOf(final Collection<CategoryId> ids) {
+        final var found = new HashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            found.put(id, Category.with(categories.get(id)));
+        }
+        return found;
+    }
+
+    private void index(final Category category) {
+        for (final var index : indexes.values()) {
+            index.add(category);
+        }
+        termIndex.add(category);
+    }
+
+    private void unindex(final Category category) {
+        for (final var index : indexes.values()) {
+            index.remove(category);
+        }
+        termIndex.remove(category.getId());
+    }
+}
@@ -0,0 +1,62 @@
+package com.catalog.infrastructure.category.async;
+
+import com.catalog.domain.category.AsyncCategoryGateway;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Exposes a blocking {@link CategoryGateway} as an {@link AsyncCategoryGateway} by running each call on
+ * the given executor. A virtual-thread-per-task executor keeps the cost of a parked call to a few
+ * hundred bytes instead of a platform thread.
+ */
+public class AsyncCategoryGatewayAdapter implements AsyncCategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final Executor executor;
+
+    public AsyncCategoryGatewayAdapter(final CategoryGateway delegate, final Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Category> create(final Category category) {
+        return CompletableFuture.supplyAsync(() -> delegate.create(category), executor);
+    }
+
+    @Override
+    public CompletionStage<Void> deleteById(final CategoryId id) {
+        return CompletableFuture.runAsync(() -> delegate.deleteById(id), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<Category>> findById(final CategoryId id) {
+        return CompletableFuture.supplyAsync(() -> delegate.findById(id), executor);
+    }
+
+    @Override
+    public CompletionStage<Category> update(final Category category) {
+        return CompletableFuture.supplyAsync(() -> delegate.update(category), executor);
+    }
+
+    @Override
+    public CompletionStage<Pagination<Category>> findAll(final CategorySearchQuery query) {
+        return CompletableFuture.supplyAsync(() -> delegate.findAll(query), executor);
+    }
+
+    @Override
+    public CompletionStage<CategoryChanges> changesSince(final CategoryWatermark after, final int limit) {
+        return CompletableFuture.supplyAsync(() -> delegate.changesSince(after, limit), executor);
+    }
+}
@@ -0,0 +1,88 @@
+package com.catalog.infrastructure.category.async;
+
+import com.catalog.domain.category.AsyncCategoryGateway;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.pagination.Pagination;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Exposes an {@link AsyncCategoryGateway} to callers of the blocking {@link CategoryGateway}. Failures
+ * are rethrown unwrapped, so a {@code DomainException} reaches the use case as it was raised.
+ */
+public class BlockingCategoryGatewayAdapter implements CategoryGateway {
+
+    private final AsyncCategoryGateway delegate;
+
+    public BlockingCategoryGatewayAdapter(final AsyncCategoryGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return await(delegate.create(category));
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        await(delegate.deleteById(id));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return await(delegate.findById(id));
+    }
+
+    // every lookup is started before the first one is awaited, so the set costs about one round trip
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var lookups = new LinkedHashMap<CategoryId, CompletableFuture<Optional<Category>>>();
+        for (final var id : ids) {
+            lookups.computeIfAbsent(id, it -> delegate.findById(it).toCompletableFuture());
+        }
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, lookups.size() * 4 / 3 + 1));
+        lookups.forEach((id, lookup) -> await(lookup).ifPresent(category -> found.put(id, category)));
+        return found;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return await(delegate.update(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return await(delegate.findAll(query));
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        return await(delegate.changesSince(after, limit));
+    }
+
+    private static <T> T await(final CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.catalog.infrastructure.category.cache;
+
+public record CacheStats(long hits, long misses, long evictions, long size) {
+
+    public double hitRate() {
+        final var requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,284 @@
+package com.catalog.infrastructure.category.cache;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-through TTL cache in front of {@link CategoryGateway#findById(CategoryId)} with CLOCK eviction.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    private static final int STRIPES = 64;
+
+    private final CategoryGateway delegate;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTicker;
+    private final Map<CategoryId, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // bumped on every invalidation so a load racing with a write never caches the stale value
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingCategoryGateway(final CategoryGateway delegate, final int maximumSize, final Duration ttl) {
+        this(delegate, maximumSize, ttl, System::nanoTime);
+    }
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final int maximumSize,
+            final Duration ttl,
+            final LongSupplier nanoTicker
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("'maximumSize' must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTicker = Objects.requireNonNull(nanoTicker);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = delegate.create(category);
+        invalidate(category.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = delegate.createAll(categories);
+        invalidateAll(categories.stream().map(Category::getId).toList());
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        delegate.deleteById(id);
+        invalidate(id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        final var now = nanoTicker.getAsLong();
+        final var cached = lookup(id, now);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(Category.with(cached));
+        }
+
+        misses.increment();
+        final var version = invalidations.get(stripe(id));
+        final var loaded = delegate.findById(id);
+        loaded.ifPresent(category -> admit(id, Category.with(category), version, now));
+        return loaded;
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var now = nanoTicker.getAsLong();
+        final var cached = new HashMap<CategoryId, Category>();
+        final var missing = new LinkedHashMap<CategoryId, Long>();
+        for (final var id : ids) {
+            if (cached.containsKey(id) || missing.containsKey(id)) {
+                continue;
+            }
+            final var category = lookup(id, now);
+            if (category != null) {
+                cached.put(id, category);
+            } else {
+                missing.put(id, invalidations.get(stripe(id)));
+            }
+        }
+        hits.add(cached.size());
+        misses.add(missing.size());
+
+        final var loaded = missing.isEmpty() ? Map.<CategoryId, Category>of() : delegate.findAllById(missing.keySet());
+        loaded.forEach((id, category) -> admit(id, Category.with(category), missing.get(id), now));
+
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            final var hit = cached.get(id);
+            final var category = hit != null ? Category.with(hit) : loaded.get(id);
+            if (category != null) {
+                found.put(id, category);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = delegate.update(category);
+        invalidate(category.getId());
+        return updated;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        final var updated = delegate.updateAll(categories);
+        invalidateAll(categories.stream().map(Category::getId).toList());
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<Category> findPage(final CategorySearchQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public Stream<Category> stream(final CategorySearchQuery query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        return delegate.changesSince(after, limit);
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        return delegate.count(query);
+    }
+
+    public void invalidate(final CategoryId id) {
+        invalidations.incrementAndGet(stripe(id));
+        entries.remove(id);
+    }
+
+    public void invalidateAll(final Collection<CategoryId> ids) {
+        final var touched = new boolean[STRIPES];
+        for (final var id : ids) {
+            touched[stripe(id)] = true;
+        }
+        for (int i = 0; i < STRIPES; i++) {
+            if (touched[i]) {
+                invalidations.incrementAndGet(i);
+            }
+        }
+        ids.forEach(entries::remove);
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            invalidations.incrementAndGet(i);
+        }
+        entries.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private Category lookup(final CategoryId id, final long now) {
+        final var entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.loadedAt < ttlNanos) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.category;
+        }
+        entries.remove(id, entry);
+        return null;
+    }
+
+    private void admit(final CategoryId id, final Category snapshot, final long version, final long now) {
+        if (invalidations.get(stripe(id)) != version) {
+            return;
+        }
+        final var entry = new Entry(id, snapshot, now);
+        entries.put(id, entry);
+        if (invalidations.get(stripe(id)) != version) {
+            entries.remove(id, entry);
+            return;
+        }
+        clock.add(entry);
+        if (queued.incrementAndGet() > maximumSize) {
+            sweep();
+        }
+    }
+
+    // second chance
+    private void sweep() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (queued.get() > maximumSize) {
+                final var entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                queued.decrementAndGet();
+                if (entries.get(entry.id) != entry) {
+                    continue;
+                }
+                if (entries.size() > maximumSize && !entry.referenced && entries.remove(entry.id, entry)) {
+                    evictions.increment();
+                    continue;
+                }
+                if (entries.size() > maximumSize) {
+                    entry.referenced = false;
+                }
+                clock.add(entry);
+                queued.incrementAndGet();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int stripe(final CategoryId id) {
+        final var h = id.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private static final class Entry {
+        private final CategoryId id;
+        private final Category category;
+        private final long loadedAt;
+        private volatile boolean referenced;
+
+        private Entry(final CategoryId id, final Category category, final long loadedAt) {
+            this.id = id;
+            this.category = category;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.catalog.infrastructure.category.cache;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.index.CategoryTerms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Caches {@link CategoryGateway#findAll(CategorySearchQuery)} pages, each stamped with the version of the
+ * term set it depends on; writes bump only the term sets the category matched before or after. Hits take
+ * no lock and return the cached page itself, so its categories are shared and must not be modified.
+ */
+public class QueryCachingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final int maximumSize;
+    private final Map<CategorySearchQuery, Entry> entries = new ConcurrentHashMap<>();
+    // guarded by lock, like the term sets and their references
+    private final Queue<Entry> clock = new ArrayDeque<>();
+    private final Map<String, TermsVersion> termsVersions = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long unfilteredVersion;
+
+    public QueryCachingCategoryGateway(final CategoryGateway delegate, final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("'maximumSize' must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = delegate.create(category);
+        invalidate(null, false, CategoryTerms.tokensOf(category));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = delegate.createAll(categories);
+        invalidateAll(hasTermsQueries() ? categories.stream().map(CategoryTerms::tokensOf).toList() : null);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        final var read = hasTermsQueries();
+        final var previous = read ? delegate.findById(id).map(CategoryTerms::tokensOf).orElse(null) : null;
+        delegate.deleteById(id);
+        invalidate(previous, !read, null);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var read = hasTermsQueries();
+        final var previous = read ? delegate.findById(category.getId()).map(CategoryTerms::tokensOf).orElse(null) : null;
+        final var updated = delegate.update(category);
+        invalidate(previous, !read, CategoryTerms.tokensOf(category));
+        return updated;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        final var read = hasTermsQueries();
+        final var previous = read
+                ? delegate.findAllById(categories.stream().map(Category::getId).toList()).values()
+                : List.<Category>of();
+        final var updated = delegate.updateAll(categories);
+        if (!read) {
+            invalidateAll(null);
+            return updated;
+        }
+        final var tokens = new ArrayList<Set<String>>(previous.size() + categories.size());
+        previous.forEach(category -> tokens.add(CategoryTerms.tokensOf(category)));
+        categories.forEach(category -> tokens.add(CategoryTerms.tokensOf(category)));
+        invalidateAll(tokens);
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var cached = entries.get(query);
+        if (cached != null && cached.isCurrent(unfilteredVersion)) {
+            return hit(cached);
+        }
+        final var termsKey = termsKey(query);
+        final TermsVersion terms;
+        final long version;
+        lock.lock();
+        try {
+            final var entry = entries.get(query);
+            if (entry != null && entry.isCurrent(unfilteredVersion)) {
+                return hit(entry);
+            }
+            if (entry != null) {
+                entries.remove(query);
+                release(entry);
+            }
+            terms = termsKey == null ? null : termsVersions.computeIfAbsent(termsKey, TermsVersion::new);
+            if (terms != null) {
+                terms.references++;
+            }
+            version = terms == null ? unfilteredVersion : terms.version;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        Pagination<Category> page = null;
+        try {
+            page = delegate.findAll(query);
+            return page;
+        } finally {
+            final var snapshot = page == null ? null : snapshotOf(page);
+            lock.lock();
+            try {
+                final var current = terms == null ? unfilteredVersion : terms.version;
+                if (snapshot != null && current == version) {
+                    admit(new Entry(query, snapshot, terms, version));
+                } else if (terms != null) {
+                    release(terms);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Stream<Category> stream(final CategorySearchQuery query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        return delegate.changesSince(after, limit);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private Pagination<Category> hit(final Entry entry) {
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.page;
+    }
+
+    // second chance; an entry replaced or removed since it was queued is skipped
+    private void admit(final Entry entry) {
+        final var previous = entries.put(entry.query, entry);
+        if (previous != null) {
+            release(previous);
+        }
+        clock.add(entry);
+        while (entries.size() > maximumSize) {
+            final var candidate = clock.poll();
+            if (entries.get(candidate.query) != candidate) {
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.add(candidate);
+                continue;
+            }
+            entries.remove(candidate.query);
+            release(candidate);
+            evictions.increment();
+        }
+        if (clock.size() > 2 * maximumSize) {
+            clock.removeIf(queued -> entries.get(queued.query) != queued);
+        }
+    }
+
+    // an unread previous state matches every term set
+    private void invalidate(final Set<String> previous, final boolean previousUnread, final Set<String> current) {
+        lock.lock();
+        try {
+            unfilteredVersion++;
+            for (final var terms : termsVersions.values()) {
+                if (previousUnread || matches(previous, terms) || matches(current, terms)) {
+                    terms.version++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // once for a whole batch; without the written tokens every term set is bumped
+    private void invalidateAll(final List<Set<String>> tokens) {
+        lock.lock();
+        try {
+            unfilteredVersion++;
+            for (final var terms : termsVersions.values()) {
+                // a term set cached after the tokens were skipped is bumped unconditionally
+                if (tokens == null || tokens.stream().anyMatch(written -> matches(written, terms))) {
+                    terms.version++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasTermsQueries() {
+        lock.lock();
+        try {
+            return !termsVersions.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(final Entry entry) {
+        if (entry.terms != null) {
+            release(entry.terms);
+        }
+    }
+
+    private void release(final TermsVersion terms) {
+        if (--terms.references == 0) {
+            termsVersions.remove(terms.key);
+        }
+    }
+
+    private static boolean matches(final Set<String> tokens, final TermsVersion terms) {
+        return tokens != null && CategoryTerms.matches(tokens, terms.tokens);
+    }
+
+
+    private static String termsKey(final CategorySearchQuery query) {
+        if (query.terms() == null || query.terms().isBlank()) {
+            return null;
+        }
+        final var tokens = CategoryTerms.tokenize(query.terms());
+        return tokens.isEmpty() ? null : String.join(" ", tokens);
+    }
+
+    // copied once when cached, never again on a hit
+    private static Pagination<Category> snapshotOf(final Pagination<Category> page) {
+        final var items = new ArrayList<Category>(page.items().size());
+        for (final var category : page.items()) {
+            items.add(Category.with(category));
+        }
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), List.copyOf(items), page.nextCursor());
+    }
+
+    private static final class TermsVersion {
+        private final String key;
+        private final List<String> tokens;
+        // written under the lock, read by hits without it
+        private volatile long version;
+        private int references;
+
+        private TermsVersion(final String key) {
+            this.key = key;
+            this.tokens = List.of(key.split(" "));
+        }
+    }
+
+    private static final class Entry {
+        private final CategorySearchQuery query;
+        private final Pagination<Category> page;
+        private final TermsVersion terms;
+        private final long version;
+        private volatile boolean referenced;
+
+        private Entry(final CategorySearchQuery query, final Pagination<Category> page, final TermsVersion terms, final long version) {
+            this.query = query;
+            this.page = page;
+            this.terms = terms;
+            this.version = version;
+        }
+
+        private boolean isCurrent(final long unfilteredVersion) {
+            return version == (terms == null ? unfilteredVersion : terms.version);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.catalog.infrastructure.category.codec;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Binary encoding of a {@link Category}:
+ * <pre>
+ * version   1 byte
+ * flags     1 byte   active and one presence bit per nullable field
+ * id        16 bytes most then least significant bits
+ * version   varint, since version 2
+ * name      varint length + UTF-8, when present
+ * desc      varint length + UTF-8, when present
+ * createdAt zigzag varint of epoch micros, when present
+ * updatedAt zigzag varint of micros since createdAt, when present
+ * deletedAt zigzag varint of micros since createdAt, when present
+ * </pre>
+ * Sub-microsecond nanos, when any instant has them, follow each instant as one more varint.
+ */
+public final class CategoryCodec {
+
+    public static final byte VERSION = 2;
+    private static final byte UNVERSIONED = 1;
+
+    private static final int ACTIVE = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_CREATED_AT = 1 << 3;
+    private static final int HAS_UPDATED_AT = 1 << 4;
+    private static final int HAS_DELETED_AT = 1 << 5;
+    private static final int SUB_MICROS = 1 << 6;
+
+    private static final int HEADER_BYTES = 2;
+    private static final int ID_BYTES = 16;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private CategoryCodec() {
+    }
+
+    public static int encodedSize(final Category category) {
+        final var flags = flags(category);
+        final var createdAt = category.getCreatedAt();
+        final var base = createdAt == null ? 0 : micros(createdAt);
+        var size = HEADER_BYTES + ID_BYTES + varintSize(category.getVersion());
+        size += stringSize(category.getName());
+        size += stringSize(category.getDescription());
+        size += instantSize(createdAt, 0, flags);
+        size += instantSize(category.getUpdatedAt(), base, flags);
+        size += instantSize(category.getDeletedAt(), base, flags);
+        return size;
+    }
+
+    public static byte[] encode(final Category category) {
+        final var bytes = new byte[encodedSize(category)];
+        encode(category, ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Writes the category at the buffer's position, which must have {@link #encodedSize} bytes left.
+     */
+    public static void encode(final Category category, final ByteBuffer out) {
+        final var flags = flags(category);
+        final var createdAt = category.getCreatedAt();
+        final var base = createdAt == null ? 0 : micros(createdAt);
+        out.put(VERSION);
+        out.put((byte) flags);
+        out.putLong(category.getId().getMostSignificantBits());
+        out.putLong(category.getId().getLeastSignificantBits());
+        writeVarint(out, category.getVersion());
+        writeString(out, category.getName());
+        writeString(out, category.getDescription());
+        writeInstant(out, createdAt, 0, flags);
+        writeInstant(out, category.getUpdatedAt(), base, flags);
+        writeInstant(out, category.getDeletedAt(), base, flags);
+    }
+
+    /**
+     * Reads a category from the buffer's position and leaves the position after it.
+     */
+    public static Category decode(final ByteBuffer in) {
+        final var version = in.get();
+        if (version != VERSION && version != UNVERSIONED) {
+            throw new IllegalArgumentException("unsupported category encoding version " + version);
+        }
+        final int flags = in.get() & 0xFF;
+        final var id = CategoryId.from(in.getLong(), in.getLong());
+        final var aggregateVersion = version == VERSION ? readVarint(in) : 0;
+        final var name = (flags & HAS_NAME) != 0 ? readString(in) : null;
+        final var description = (flags & HAS_DESCRIPTION) != 0 ? readString(in) : null;
+        final var createdAtMicros = (flags & HAS_CREATED_AT) != 0 ? readZigZag(in) : 0;
+        final var createdAt = (flags & HAS_CREATED_AT) != 0 ? instant(createdAtMicros, in, flags) : null;
+        final var updatedAt = (flags & HAS_UPDATED_AT) != 0 ? instant(createdAtMicros + readZigZag(in), in, flags) : null;
+        final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? instant(createdAtMicros + readZigZag(in), in, flags) : null;
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, aggregateVersion);
+    }
+
+    /**
+     * The id of the category encoded at {@code offset}, without decoding anything else.
+     */
+    public static CategoryId readId(final ByteBuffer in, final int offset) {
+        return CategoryId.from(in.getLong(offset + HEADER_BYTES), in.getLong(offset + HEADER_BYTES + Long.BYTES));
+    }
+
+    public static String readName(final ByteBuffer in) {
+        final var flags = skipToFields(in);
+        return (flags & HAS_NAME) != 0 ? readString(in) : null;
+    }
+
+    public static Instant readCreatedAt(final ByteBuffer in) {
+        final var flags = skipToInstants(in);
+        return (flags & HAS_CREATED_AT) != 0 ? instant(readZigZag(in), in, flags) : null;
+    }
+
+    public static Instant readUpdatedAt(final ByteBuffer in) {
+        final var flags = skipToInstants(in);
+        if ((flags & HAS_UPDATED_AT) == 0) {
+            return null;
+        }
+        var createdAtMicros = 0L;
+        if ((flags & HAS_CREATED_AT) != 0) {
+            createdAtMicros = readZigZag(in);
+            if ((flags & SUB_MICROS) != 0) {
+                readVarint(in);
+            }
+        }
+        return instant(createdAtMicros + readZigZag(in), in, flags);
+    }
+
+    private static int skipToFields(final ByteBuffer in) {
+        final var version = in.get();
+        if (version != VERSION && version != UNVERSIONED) {
+            throw new IllegalArgumentException("unsupported category encoding version " + version);
+        }
+        final int flags = in.get() & 0xFF;
+        in.position(in.position() + ID_BYTES);
+        if (version == VERSION) {
+            readVarint(in);
+        }
+        return flags;
+    }
+
+    private static int skipToInstants(final ByteBuffer in) {
+        final var flags = skipToFields(in);
+        if ((flags & HAS_NAME) != 0) {
+            skipString(in);
+        }
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            skipString(in);
+        }
+        return flags;
+    }
+
+    private static void skipString(final ByteBuffer in) {
+        final var length = (int) readVarint(in);
+        in.position(in.position() + length);
+    }
+
+    private static int flags(final Category category) {
+        var flags = category.isActive() ? ACTIVE : 0;
+        flags |= category.getName() != null ? HAS_NAME : 0;
+        flags |= category.getDescription() != null ? HAS_DESCRIPTION : 0;
+        flags |= category.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+        flags |= category.getUpdatedAt() != null ? HAS_UPDATED_AT : 0;
+        flags |= category.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+        if (hasSubMicros(category.getCreatedAt()) || hasSubMicros(category.getUpdatedAt()) || hasSubMicros(category.getDeletedAt())) {
+            flags |= SUB_MICROS;
+        }
+        return flags;
+    }
+
+    private static boolean hasSubMicros(final Instant instant) {
+        return instant != null && instant.getNano() % 1000 != 0;
+    }
+
+    private static long micros(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND), instant.getNano() / 1000);
+    }
+
+    private static int instantSize(final Instant instant, final long base, final int flags) {
+        if (instant == null) {
+            return 0;
+        }
+        final var size = varintSize(zigZag(micros(instant) - base));
+        return (flags & SUB_MICROS) != 0 ? size + varintSize(instant.getNano() % 1000) : size;
+    }
+
+    private static void writeInstant(final ByteBuffer out, final Instant instant, final long base, final int flags) {
+        if (instant == null) {
+            return;
+        }
+        writeVarint(out, zigZag(micros(instant) - base));
+        if ((flags & SUB_MICROS) != 0) {
+            writeVarint(out, instant.getNano() % 1000);
+        }
+    }
+
+    private static Instant instant(final long micros, final ByteBuffer in, final int flags) {
+        final var subMicros = (flags & SUB_MICROS) != 0 ? readVarint(in) : 0;
+        return Instant.ofEpochSecond(
+                Math.floorDiv(micros, MICROS_PER_SECOND),
+                Math.floorMod(micros, MICROS_PER_SECOND) * 1000 + subMicros
+        );
+    }
+
+    private static int stringSize(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        final var length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+
+    // same byte count as String.getBytes(UTF_8), which writes '?' for an unpaired surrogate
+    private static int utf8Length(final String value) {
+        var length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static void writeString(final ByteBuffer out, final String value) {
+        if (value == null) {
+            return;
+        }
+        writeVarint(out, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final var length = (int) readVarint(in);
+        final String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            final var bytes = new byte[length];
+            in.get(in.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long readZigZag(final ByteBuffer in) {
+        final var value = readVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varintSize(final long value) {
+        return value == 0 ? 1 : (63 - Long.numberOfLeadingZeros(value)) / 7 + 1;
+    }
+
+    private static void writeVarint(final ByteBuffer out, final long value) {
+        var remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.put((byte) remaining);
+    }
+
+    private static long readVarint(final ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final var b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+}
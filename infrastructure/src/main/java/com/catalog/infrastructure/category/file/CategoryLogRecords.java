@@ -0,0 +1,96 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.infrastructure.category.codec.CategoryCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Framing of the category log: every record is {@code [length][crc32c][body]}, so a torn write at the
+ * tail is detected on replay. A body is a type byte and the change-feed instant, followed by the
+ * {@link CategoryCodec} encoding for a put, or by the 16-byte id for a delete.
+ */
+final class CategoryLogRecords {
+
+    static final int HEADER_BYTES = 8;
+    static final int MAX_BODY_BYTES = 1 << 24;
+
+    private static final int INSTANT_BYTES = Long.BYTES + Integer.BYTES;
+    // without the change-feed instant
+    private static final byte LEGACY_PUT = 1;
+    private static final byte LEGACY_DELETE = 2;
+    private static final byte PUT = 3;
+    private static final byte DELETE = 4;
+
+    private CategoryLogRecords() {
+    }
+
+    // replay would take a longer body for a torn tail, so it is never appended
+    static ByteBuffer put(final Category category, final Instant changedAt) {
+        final var bodyBytes = 1L + INSTANT_BYTES + CategoryCodec.encodedSize(category);
+        if (bodyBytes > MAX_BODY_BYTES) {
+            throw DomainException.with(CategoryErrors.TOO_LARGE);
+        }
+        final var frame = allocate((int) bodyBytes).put(PUT);
+        putInstant(frame, changedAt);
+        CategoryCodec.encode(category, frame);
+        return seal(frame);
+    }
+
+    static ByteBuffer delete(final CategoryId id, final Instant changedAt) {
+        return seal(putInstant(allocate(1 + INSTANT_BYTES + 2 * Long.BYTES).put(DELETE), changedAt)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits()));
+    }
+
+    static int checksum(final byte[] body) {
+        final var crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    static LogRecord decode(final byte[] body) throws IOException {
+        final var in = ByteBuffer.wrap(body);
+        final var type = in.get();
+        try {
+            final var changedAt = type == PUT || type == DELETE ? Instant.ofEpochSecond(in.getLong(), in.getInt()) : null;
+            if (type == DELETE || type == LEGACY_DELETE) {
+                return new LogRecord(CategoryId.from(in.getLong(), in.getLong()), null, changedAt);
+            }
+            if (type == PUT || type == LEGACY_PUT) {
+                final var category = CategoryCodec.decode(in);
+                return new LogRecord(category.getId(), category, changedAt);
+            }
+        } catch (final RuntimeException ex) {
+            throw new IOException("corrupt record", ex);
+        }
+        throw new IOException("unknown record type " + type);
+    }
+
+    private static ByteBuffer allocate(final int bodyBytes) {
+        return ByteBuffer.allocate(HEADER_BYTES + bodyBytes).putInt(bodyBytes).putInt(0);
+    }
+
+    private static ByteBuffer putInstant(final ByteBuffer frame, final Instant at) {
+        return frame.putLong(at.getEpochSecond()).putInt(at.getNano());
+    }
+
+    private static ByteBuffer seal(final ByteBuffer frame) {
+        final var crc = new CRC32C();
+        crc.update(frame.array(), HEADER_BYTES, frame.position() - HEADER_BYTES);
+        return frame.putInt(Integer.BYTES, (int) crc.getValue()).flip();
+    }
+
+    // changedAt is null for a legacy record
+    record LogRecord(CategoryId id, Category category, Instant changedAt) {
+        boolean isDelete() {
+            return category == null;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.infrastructure.category.codec.CategoryCodec;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import com.catalog.infrastructure.category.index.CategorySort;
+import com.catalog.infrastructure.category.index.CategoryTerms;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Read-only, memory-mapped image of a set of categories: the {@link CategoryCodec} records, an id table,
+ * per-{@link CategorySort} rank tables, a term index and the change feed. Categories are decoded on each access.
+ */
+public final class CategorySnapshot {
+
+    private static final int MAGIC = 0x43415453;
+    private static final int VERSION = 4;
+    private static final int HEADER_BYTES = 40;
+    private static final int ID_ENTRY_BYTES = 28;
+    private static final int INSTANT_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int CHANGE_ENTRY_BYTES = INSTANT_BYTES + 2 * Long.BYTES + 1;
+    private static final int SELECTIVE_MATCH_RATIO = 8;
+    // a snapshot is mapped as a single buffer
+    private static final long MAX_BYTES = Integer.MAX_VALUE;
+    private static final CategorySort[] SORTS = CategorySort.values();
+
+    private static final CategorySnapshot EMPTY = new CategorySnapshot(ByteBuffer.allocate(HEADER_BYTES), 0, 0, HEADER_BYTES, HEADER_BYTES, 0);
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int termCount;
+    private final int tableOffset;
+    private final int termsOffset;
+    private final int changesOffset;
+
+    private CategorySnapshot(
+            final ByteBuffer buffer,
+            final int size,
+            final int termCount,
+            final int tableOffset,
+            final int termsOffset,
+            final int changesOffset
+    ) {
+        this.buffer = buffer;
+        this.size = size;
+        this.termCount = termCount;
+        this.tableOffset = tableOffset;
+        this.termsOffset = termsOffset;
+        this.changesOffset = changesOffset;
+    }
+
+    public static CategorySnapshot empty() {
+        return EMPTY;
+    }
+
+    public static CategorySnapshot open(final Path path) {
+        if (!Files.exists(path)) {
+            return EMPTY;
+        }
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_BYTES) {
+                throw new IllegalStateException("snapshot is larger than a single mapping: " + path);
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("not a category snapshot: " + path);
+            }
+            return new CategorySnapshot(
+                    buffer, buffer.getInt(8), buffer.getInt(12), (int) buffer.getLong(16), (int) buffer.getLong(24), (int) buffer.getLong(32)
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static void write(final Path path, final Collection<Category> categories) {
+        write(path, categories.iterator());
+    }
+
+    public static void write(final Path path, final Iterator<Category> categories) {
+        write(path, categories, null);
+    }
+
+    public static void write(final Path path, final Iterator<Category> categories, final CategoryChangeLog changeLog) {
+        write(path, categories, changeLog, MAX_BYTES);
+    }
+
+    // fails before the header is written, so a snapshot too large to map is never valid
+    static void write(final Path path, final Iterator<Category> categories, final CategoryChangeLog changeLog, final long maxBytes) {
+        try (final var channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            channel.position(HEADER_BYTES);
+            final var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            final var keys = new ArrayList<Category>();
+            final var offsets = new ArrayList<long[]>();
+            final var postings = new TreeMap<String, Postings>();
+            final var seen = new HashSet<CategoryId>();
+            var offset = (long) HEADER_BYTES;
+            while (categories.hasNext()) {
+                final var category = categories.next();
+                // a walk over a live gateway can meet a category moved ahead of it again
+                if (!seen.add(category.getId())) {
+                    continue;
+                }
+                final var record = CategoryCodec.encode(category);
+                out.write(record);
+                for (final var token : CategoryTerms.tokensOf(category)) {
+                    postings.computeIfAbsent(token, key -> new Postings()).add(keys.size());
+                }
+                keys.add(sortKeyOf(category));
+                offsets.add(new long[]{offset, record.length});
+                offset += record.length;
+                ensureMappable(offset, maxBytes);
+            }
+
+            final var count = keys.size();
+            final var byId = sortedPositions(count, Comparator.comparing(keys::get, Comparator.comparing(Category::getId)));
+            final var positionOf = new int[count];
+            for (int position = 0; position < count; position++) {
+                positionOf[byId[position]] = position;
+            }
+            final var tableOffset = offset;
+            for (final var written : byId) {
+                final var id = keys.get(written).getId();
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+                out.writeLong(offsets.get(written)[0]);
+                out.writeInt((int) offsets.get(written)[1]);
+            }
+            for (final var sort : SORTS) {
+                final var ranked = sortedPositions(count, (left, right) -> sort.comparator().compare(keys.get(byId[left]), keys.get(byId[right])));
+                final var ranks = new int[count];
+                for (int rank = 0; rank < count; rank++) {
+                    ranks[ranked[rank]] = rank;
+                }
+                for (final var position : ranked) {
+                    out.writeInt(position);
+                }
+                for (final var rank : ranks) {
+                    out.writeInt(rank);
+                }
+            }
+
+            final var termsOffset = tableOffset + (long) count * (ID_ENTRY_BYTES + 2L * Integer.BYTES * SORTS.length);
+            var termOffset = termsOffset + (long) postings.size() * Long.BYTES;
+            final var terms = new ArrayList<byte[]>(postings.size());
+            for (final var entry : postings.entrySet()) {
+                final var term = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                terms.add(term);
+                out.writeLong(termOffset);
+                termOffset += Integer.BYTES * 2L + term.length + (long) Integer.BYTES * entry.getValue().size;
+            }
+            var index = 0;
+            for (final var entry : postings.values()) {
+                final var term = terms.get(index++);
+                out.writeInt(term.length);
+                out.write(term);
+                final var positions = entry.remap(positionOf);
+                out.writeInt(positions.length);
+                for (final var position : positions) {
+                    out.writeInt(position);
+                }
+            }
+            final var changesOffset = termOffset;
+            writeChanges(out, changeLog);
+            out.flush();
+            ensureMappable(channel.size(), maxBytes);
+
+            final var header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt(postings.size())
+                    .putLong(tableOffset)
+                    .putLong(termsOffset)
+                    .putLong(changesOffset);
+            writeFully(channel, header.flip(), 0);
+            channel.force(true);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // the changes are read on first use of the change log
+    void resumeChanges(final CategoryChangeLog changeLog) {
+        if (changesOffset == 0) {
+            return;
+        }
+        final var count = buffer.getInt(changesOffset + 2 * INSTANT_BYTES);
+        changeLog.resume(instantAt(changesOffset), instantAt(changesOffset + INSTANT_BYTES), changes -> {
+            var entry = changesOffset + 2 * INSTANT_BYTES + Integer.BYTES;
+            for (int i = 0; i < count; i++, entry += CHANGE_ENTRY_BYTES) {
+                final var id = CategoryId.from(buffer.getLong(entry + INSTANT_BYTES), buffer.getLong(entry + INSTANT_BYTES + Long.BYTES));
+                changes.accept(new CategoryWatermark(instantAt(entry), id), buffer.get(entry + INSTANT_BYTES + 2 * Long.BYTES) != 0);
+            }
+        });
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(final CategoryId id) {
+        return positionOf(id) >= 0;
+    }
+
+    public Optional<Category> find(final CategoryId id) {
+        final var position = positionOf(id);
+        return position < 0 ? Optional.empty() : Optional.of(get(position));
+    }
+
+    public Iterator<Category> iterator(final CategorySort sort, final boolean descending, final Category after) {
+        return iterator(sort, descending, after, null);
+    }
+
+    Iterator<Category> iterator(final CategorySort sort, final boolean descending, final Category after, final BitSet matches) {
+        final var comparator = sort.comparator();
+        final int first;
+        if (after == null) {
+            first = descending ? size - 1 : 0;
+        } else if (descending) {
+            first = lowerBound(sort, after, comparator) - 1;
+        } else {
+            first = upperBound(sort, after, comparator);
+        }
+        // few matches: sort their ranks instead of walking every rank
+        final var ranks = matches != null && (long) matches.cardinality() * SELECTIVE_MATCH_RATIO <= size
+                ? ranksOf(sort, matches)
+                : null;
+        return new Iterator<>() {
+            private int rank = first;
+            private int index = ranks == null ? 0 : startIndex(ranks, first, descending);
+            private int next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Category next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                final var category = get(next);
+                next = advance();
+                return category;
+            }
+
+            private int advance() {
+                if (ranks != null) {
+                    if (index < 0 || index >= ranks.length) {
+                        return -1;
+                    }
+                    final var position = positionAt(sort, ranks[index]);
+                    index += descending ? -1 : 1;
+                    return position;
+                }
+                while (rank >= 0 && rank < size) {
+                    final var position = positionAt(sort, rank);
+                    rank += descending ? -1 : 1;
+                    if (matches == null || matches.get(position)) {
+                        return position;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+
+    BitSet search(final String terms) {
+        final var queryTokens = CategoryTerms.tokenize(terms);
+        if (queryTokens.isEmpty()) {
+            return new BitSet();
+        }
+        BitSet result = null;
+        for (final var queryToken : queryTokens) {
+            final var bits = new BitSet(size);
+            for (int term = firstTermFrom(queryToken); term < termCount && termAt(term).startsWith(queryToken); term++) {
+                final var record = termRecord(term);
+                final var postings = record + Integer.BYTES + buffer.getInt(record);
+                final var count = buffer.getInt(postings);
+                for (int i = 0; i < count; i++) {
+                    bits.set(buffer.getInt(postings + Integer.BYTES * (i + 1)));
+                }
+            }
+            if (result == null) {
+                result = bits;
+            } else {
+                result.and(bits);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    int positionOf(final CategoryId id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int entry = tableOffset + middle * ID_ENTRY_BYTES;
+            int cmp = Long.compareUnsigned(buffer.getLong(entry), id.getMostSignificantBits());
+            if (cmp == 0) {
+                cmp = Long.compareUnsigned(buffer.getLong(entry + 8), id.getLeastSignificantBits());
+            }
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private Category get(final int position) {
+        final var entry = tableOffset + position * ID_ENTRY_BYTES;
+        final var start = (int) buffer.getLong(entry + 16);
+        return CategoryCodec.decode(buffer.slice(start, buffer.getInt(entry + 24)));
+    }
+
+    private int positionAt(final CategorySort sort, final int rank) {
+        final var orders = tableOffset + size * ID_ENTRY_BYTES + sort.ordinal() * 2 * size * Integer.BYTES;
+        return buffer.getInt(orders + rank * Integer.BYTES);
+    }
+
+    private int rankOf(final CategorySort sort, final int position) {
+        final var ranks = tableOffset + size * ID_ENTRY_BYTES + (sort.ordinal() * 2 + 1) * size * Integer.BYTES;
+        return buffer.getInt(ranks + position * Integer.BYTES);
+    }
+
+    private int[] ranksOf(final CategorySort sort, final BitSet matches) {
+        final var ranks = new int[matches.cardinality()];
+        var index = 0;
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            ranks[index++] = rankOf(sort, position);
+        }
+        Arrays.sort(ranks);
+        return ranks;
+    }
+
+    // index of the first rank to visit from rank first on, walking in the given direction
+    private static int startIndex(final int[] ranks, final int first, final boolean descending) {
+        final var found = Arrays.binarySearch(ranks, first);
+        if (found >= 0) {
+            return found;
+        }
+        final var insertion = -found - 1;
+        return descending ? insertion - 1 : insertion;
+    }
+
+    private int termRecord(final int term) {
+        return (int) buffer.getLong(termsOffset + term * Long.BYTES);
+    }
+
+    private String termAt(final int term) {
+        final var record = termRecord(term);
+        final var bytes = new byte[buffer.getInt(record)];
+        buffer.get(record + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // first term that does not sort before token
+    private int firstTermFrom(final String token) {
+        int low = 0;
+        int high = termCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (termAt(middle).compareTo(token) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // first rank whose category sorts after key
+    private int upperBound(final CategorySort sort, final Category key, final Comparator<Category> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(get(positionAt(sort, middle)), key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // first rank whose category does not sort before key
+    private int lowerBound(final CategorySort sort, final Category key, final Comparator<Category> comparator) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(get(positionAt(sort, middle)), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Instant instantAt(final int offset) {
+        return Instant.ofEpochSecond(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES));
+    }
+
+    private static void ensureMappable(final long bytes, final long maxBytes) throws IOException {
+        if (bytes > maxBytes) {
+            throw new IOException("snapshot would exceed the " + maxBytes + " bytes of a single mapping");
+        }
+    }
+
+    private static void writeChanges(final DataOutputStream out, final CategoryChangeLog changeLog) throws IOException {
+        final var changes = new ArrayList<Map.Entry<CategoryWatermark, Boolean>>(changeLog == null ? 0 : changeLog.size());
+        if (changeLog != null) {
+            changeLog.forEach((watermark, deleted) -> changes.add(Map.entry(watermark, deleted)));
+        }
+        writeInstant(out, changeLog == null ? Instant.MIN : changeLog.lastChangedAt());
+        writeInstant(out, changeLog == null ? Instant.MIN : changeLog.horizon());
+        out.writeInt(changes.size());
+        for (final var change : changes) {
+            writeInstant(out, change.getKey().changedAt());
+            out.writeLong(change.getKey().id().getMostSignificantBits());
+            out.writeLong(change.getKey().id().getLeastSignificantBits());
+            out.writeByte(change.getValue() ? 1 : 0);
+        }
+    }
+
+    private static void writeInstant(final DataOutputStream out, final Instant at) throws IOException {
+        out.writeLong(at.getEpochSecond());
+        out.writeInt(at.getNano());
+    }
+
+    private static Category sortKeyOf(final Category category) {
+        return Category.with(category.getId(), category.getName(), null, true, category.getCreatedAt(), category.getUpdatedAt(), null);
+    }
+
+    private static int[] sortedPositions(final int count, final Comparator<Integer> comparator) {
+        final var positions = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, comparator);
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        var written = 0L;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+    }
+
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] remap(final int[] positionOf) {
+            final var positions = new int[size];
+            for (int i = 0; i < size; i++) {
+                positions[i] = positionOf[values[i]];
+            }
+            Arrays.sort(positions);
+            return positions;
+        }
+    }
+}
@@ -0,0 +1,543 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Durable gateway backed by an append-only log with group-committed {@code force}s. Reads go to a
+ * {@link SnapshotCategoryGateway}. Past {@code compactionThreshold} a background thread writes a new snapshot
+ * without holding the lock, then swaps it in with the records appended meanwhile as the new log.
+ * Log records and snapshots carry the change feed, so watermarks survive a reopen.
+ */
+public class FileCategoryGateway implements CategoryGateway, AutoCloseable {
+
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 4L << 20;
+
+    private final Path path;
+    private final Path snapshotPath;
+    private final long compactionThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = lock.newCondition();
+    private final Condition compacted = lock.newCondition();
+    private final Deque<Batch> unapplied = new ArrayDeque<>();
+    private final CategoryChangeLog changeLog = new CategoryChangeLog(CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+    private volatile SnapshotCategoryGateway view;
+    private FileChannel channel;
+    private long size;
+    private long appendedBatches;
+    private long durableBatches;
+    private long durableSize;
+    private boolean syncing;
+    private boolean compacting;
+    private long compactionDueAt;
+    private Rotation rotation;
+    private boolean closed;
+    private IOException failure;
+
+    private FileCategoryGateway(final Path path, final long compactionThreshold) {
+        this.path = path;
+        this.snapshotPath = path.resolveSibling(path.getFileName() + ".snapshot");
+        this.compactionThreshold = compactionThreshold;
+        this.compactionDueAt = compactionThreshold;
+    }
+
+    public static FileCategoryGateway open(final Path path) {
+        return open(path, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public static FileCategoryGateway open(final Path path, final long compactionThreshold) {
+        final var gateway = new FileCategoryGateway(Objects.requireNonNull(path), compactionThreshold);
+        try {
+            gateway.recover();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return gateway;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        append(List.of(category), true, null);
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        append(categories, true, null);
+        return categories;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        append(List.of(category), false, null);
+        return category;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        append(categories, false, null);
+        return categories;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        append(List.of(), false, id);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return view.findById(id);
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        return view.findAllById(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return view.findAll(query);
+    }
+
+    @Override
+    public Pagination<Category> findPage(final CategorySearchQuery query) {
+        return view.findPage(query);
+    }
+
+    @Override
+    public Stream<Category> stream(final CategorySearchQuery query) {
+        return view.stream(query);
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        return view.count(query);
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        lock.lock();
+        try {
+            return changeLog.since(after, limit, view::findAllById);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // waits for a compaction already running, then runs one on the calling thread
+    public void compact() {
+        lock.lock();
+        try {
+            while (compacting) {
+                compacted.awaitUninterruptibly();
+            }
+            compacting = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            runCompaction();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            while (compacting) {
+                compacted.awaitUninterruptibly();
+            }
+            while (syncing) {
+                synced.awaitUninterruptibly();
+            }
+            channel.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(final List<Category> categories, final boolean creating, final CategoryId deleted) {
+        lock.lock();
+        try {
+            ensureWritable();
+            if (deleted != null && !exists(deleted)) {
+                return;
+            }
+            ensureTargets(categories, creating);
+            final var start = size;
+            final var deletion = deleted != null ? new CategoryWatermark(changeLog.stamp(Instant.now()), deleted) : null;
+            final var upserts = new ArrayList<CategoryWatermark>(categories.size());
+            // every record is framed before the first is appended, so a rejected one leaves the log untouched
+            final var frames = new ArrayList<ByteBuffer>(categories.size() + 1);
+            if (deletion != null) {
+                frames.add(CategoryLogRecords.delete(deleted, deletion.changedAt()));
+            }
+            for (final var category : categories) {
+                final var upsert = new CategoryWatermark(changeLog.stamp(category.getUpdatedAt()), category.getId());
+                frames.add(CategoryLogRecords.put(category, upsert.changedAt()));
+                upserts.add(upsert);
+            }
+            try {
+                for (final var frame : frames) {
+                    write(frame);
+                }
+            } catch (final IOException ex) {
+                truncate(start, ex);
+                throw ex;
+            }
+            final var batch = new Batch(++appendedBatches, List.copyOf(categories), List.copyOf(upserts), deletion);
+            unapplied.addLast(batch);
+            awaitDurable(batch.sequence());
+            applyDurable();
+            scheduleCompaction();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long write(final ByteBuffer frame) throws IOException {
+        final var offset = size;
+        writeFully(channel, frame, offset);
+        size = offset + frame.limit();
+        return offset;
+    }
+
+    // group commit: the first waiter forces for everyone appended so far
+    private void awaitDurable(final long batch) throws IOException {
+        while (durableBatches < batch) {
+            ensureWritable();
+            if (syncing) {
+                synced.awaitUninterruptibly();
+                continue;
+            }
+            syncing = true;
+            final var upTo = appendedBatches;
+            final var upToSize = size;
+            final var current = channel;
+            IOException forceFailure = null;
+            lock.unlock();
+            try {
+                current.force(false);
+            } catch (final IOException ex) {
+                forceFailure = ex;
+            } finally {
+                lock.lock();
+                syncing = false;
+                synced.signalAll();
+            }
+            if (forceFailure != null) {
+                truncate(durableSize, forceFailure);
+                fail(forceFailure);
+                throw forceFailure;
+            }
+            durableBatches = Math.max(durableBatches, upTo);
+            durableSize = Math.max(durableSize, upToSize);
+        }
+    }
+
+    private void applyDurable() {
+        while (!unapplied.isEmpty() && unapplied.peekFirst().sequence() <= durableBatches) {
+            apply(unapplied.pollFirst());
+        }
+    }
+
+    private void apply(final Batch batch) {
+        applyTo(view, batch);
+        if (batch.deletion() != null) {
+            changeLog.record(batch.deletion(), true);
+        }
+        batch.upserts().forEach(upsert -> changeLog.record(upsert, false));
+        if (rotation != null) {
+            rotation.batches().add(batch);
+        }
+    }
+
+    private static void applyTo(final SnapshotCategoryGateway view, final Batch batch) {
+        if (batch.deletion() != null) {
+            view.deleteById(batch.deletion().id());
+        }
+        if (!batch.categories().isEmpty()) {
+            view.upsertAll(batch.categories());
+        }
+    }
+
+    // includes batches that are not durable yet
+    private boolean exists(final CategoryId id) {
+        final var iterator = unapplied.descendingIterator();
+        while (iterator.hasNext()) {
+            final var batch = iterator.next();
+            if (batch.categories().stream().anyMatch(category -> category.getId().equals(id))) {
+                return true;
+            }
+            if (batch.deletion() != null && id.equals(batch.deletion().id())) {
+                return false;
+            }
+        }
+        return view.findById(id).isPresent();
+    }
+
+    // a create only writes new ids, an update only existing ones
+    private void ensureTargets(final List<Category> categories, final boolean creating) {
+        final var created = creating ? new HashSet<CategoryId>() : null;
+        for (final var category : categories) {
+            final var exists = exists(category.getId()) || (creating && !created.add(category.getId()));
+            if (exists == creating) {
+                throw DomainException.with(creating ? CategoryErrors.ALREADY_EXISTS : CategoryErrors.NOT_FOUND);
+            }
+        }
+    }
+
+    private void truncate(final long to, final IOException cause) {
+        try {
+            channel.truncate(to);
+            size = to;
+        } catch (final IOException ex) {
+            cause.addSuppressed(ex);
+            fail(cause);
+        }
+    }
+
+    private void fail(final IOException cause) {
+        failure = cause;
+        unapplied.clear();
+        synced.signalAll();
+    }
+
+    private void ensureWritable() throws IOException {
+        if (failure != null) {
+            throw new IOException("the log failed to sync and must be reopened", failure);
+        }
+    }
+
+    private void recover() throws IOException {
+        final var snapshot = CategorySnapshot.open(snapshotPath);
+        snapshot.resumeChanges(changeLog);
+        view = new SnapshotCategoryGateway(snapshot);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final var replayed = new LinkedHashMap<CategoryId, Category>();
+        final var in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        long valid = 0;
+        while (true) {
+            final byte[] body;
+            try {
+                final var length = in.readInt();
+                if (length <= 0 || length > CategoryLogRecords.MAX_BODY_BYTES) {
+                    break;
+                }
+                final var checksum = in.readInt();
+                body = new byte[length];
+                in.readFully(body);
+                if (checksum != CategoryLogRecords.checksum(body)) {
+                    break;
+                }
+            } catch (final EOFException ex) {
+                break;
+            }
+            final var record = CategoryLogRecords.decode(body);
+            // a delete is kept as null to shadow the snapshot
+            replayed.put(record.id(), record.category());
+            if (record.changedAt() != null) {
+                changeLog.record(new CategoryWatermark(record.changedAt(), record.id()), record.isDelete());
+            } else if (record.isDelete()) {
+                changeLog.deleted(record.id(), null);
+            } else {
+                changeLog.upserted(record.id(), record.category().getUpdatedAt());
+            }
+            valid += CategoryLogRecords.HEADER_BYTES + body.length;
+        }
+        if (valid < channel.size()) {
+            // a torn tail was never acknowledged
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        size = valid;
+        durableSize = valid;
+        final var written = new ArrayList<Category>(replayed.size());
+        replayed.forEach((id, category) -> {
+            if (category == null) {
+                view.deleteById(id);
+            } else {
+                written.add(category);
+            }
+        });
+        view.upsertAll(written);
+    }
+
+    private void scheduleCompaction() {
+        if (compacting || closed || size < compactionDueAt) {
+            return;
+        }
+        compacting = true;
+        Thread.ofPlatform().daemon().name("category-log-compaction").start(() -> {
+            try {
+                runCompaction();
+            } catch (final IOException | RuntimeException ex) {
+                // the old snapshot and log stay in place; retried once the log grew by another threshold
+                lock.lock();
+                try {
+                    compactionDueAt = size + compactionThreshold;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    // the caller owns {@code compacting}
+    private void runCompaction() throws IOException {
+        final var temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            final Rotation started;
+            lock.lock();
+            try {
+                started = rotate();
+            } finally {
+                lock.unlock();
+            }
+            // a stale read is fine: what changed since the rotation is replayed over the snapshot
+            try (final var categories = started.view().stream(new CategorySearchQuery(0, 1024, null, "createdAt", "asc"))) {
+                CategorySnapshot.write(temporary, categories.iterator(), started.changes());
+            }
+            lock.lock();
+            try {
+                swapIn(started, temporary);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+            lock.lock();
+            try {
+                rotation = null;
+                compacting = false;
+                compacted.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // every durable batch is applied once no sync is running, and every later one is after durableSize
+    private Rotation rotate() throws IOException {
+        while (syncing) {
+            synced.awaitUninterruptibly();
+        }
+        ensureWritable();
+        rotation = new Rotation(durableSize, changeLog.copy(), new ArrayList<>(), view);
+        return rotation;
+    }
+
+    private void swapIn(final Rotation rotation, final Path snapshot) throws IOException {
+        while (syncing) {
+            synced.awaitUninterruptibly();
+        }
+        ensureWritable();
+        final var tail = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (final var out = FileChannel.open(tail, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (var copied = 0L; copied < size - rotation.logOffset(); ) {
+                    copied += channel.transferTo(rotation.logOffset() + copied, size - rotation.logOffset() - copied, out);
+                }
+                out.force(true);
+            }
+            Files.move(snapshot, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException ex) {
+            Files.deleteIfExists(tail);
+            throw ex;
+        }
+        try {
+            // until the tail replaces it the whole log is replayed over the new snapshot, which is idempotent
+            syncDirectory(snapshotPath.toAbsolutePath().getParent());
+            Files.move(tail, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory(path.toAbsolutePath().getParent());
+            final var previous = channel;
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            previous.close();
+        } catch (final IOException ex) {
+            fail(ex);
+            throw ex;
+        }
+        size = channel.size();
+        durableSize = size;
+        durableBatches = appendedBatches;
+        compactionDueAt = compactionThreshold;
+        applyDurable();
+        final var next = new SnapshotCategoryGateway(CategorySnapshot.open(snapshotPath));
+        rotation.batches().forEach(batch -> applyTo(next, batch));
+        view = next;
+    }
+
+    private static void syncDirectory(final Path directory) throws IOException {
+        try (final var handle = FileChannel.open(directory, StandardOpenOption.READ)) {
+            handle.force(true);
+        } catch (final AccessDeniedException ex) {
+            // Windows cannot open a directory
+        }
+    }
+
+    private record Batch(long sequence, List<Category> categories, List<CategoryWatermark> upserts, CategoryWatermark deletion) {
+    }
+
+    // what the log held up to {@code logOffset}, and the batches applied since
+    private record Rotation(long logOffset, CategoryChangeLog changes, List<Batch> batches, SnapshotCategoryGateway view) {
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        var written = 0L;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+    }
+}
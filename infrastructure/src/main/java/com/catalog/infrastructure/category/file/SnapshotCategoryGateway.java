@@ -0,0 +1,324 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import com.catalog.infrastructure.category.index.CategoryCursor;
+import com.catalog.infrastructure.category.index.CategorySort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link CategorySnapshot} with writes layered on top in an in-memory overlay that shadows it. The change
+ * feed resumes from the one stored in the snapshot.
+ */
+public class SnapshotCategoryGateway implements CategoryGateway {
+
+    private static final int OVERLAY_CHUNK_SIZE = 256;
+
+    private final CategorySnapshot snapshot;
+    private final InMemoryCategoryGateway overlay = new InMemoryCategoryGateway();
+    private final Set<CategoryId> shadowed = new HashSet<>();
+    private final CategoryChangeLog changeLog = new CategoryChangeLog(CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SnapshotCategoryGateway(final CategorySnapshot snapshot) {
+        this.snapshot = Objects.requireNonNull(snapshot);
+        snapshot.resumeChanges(changeLog);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return createAll(List.of(category)).getFirst();
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return write(categories, true);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return updateAll(List.of(category)).getFirst();
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return write(categories, false);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        lock.writeLock().lock();
+        try {
+            final var existed = isVisible(id);
+            shadow(id);
+            overlay.deleteById(id);
+            if (existed) {
+                changeLog.deleted(id, Instant.now());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        lock.readLock().lock();
+        try {
+            final var written = overlay.findById(id);
+            if (written.isPresent() || shadowed.contains(id)) {
+                return written;
+            }
+            return snapshot.find(id).map(Category::with);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        lock.readLock().lock();
+        try {
+            final var written = overlay.findAllById(ids);
+            for (final var id : ids) {
+                final var category = written.get(id);
+                if (category != null) {
+                    found.put(id, category);
+                } else if (!shadowed.contains(id) && !found.containsKey(id)) {
+                    snapshot.find(id).ifPresent(stored -> found.put(id, Category.with(stored)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return page(query, true);
+    }
+
+    @Override
+    public Pagination<Category> findPage(final CategorySearchQuery query) {
+        return page(query, false);
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        lock.readLock().lock();
+        try {
+            final var hasTerms = query.terms() != null && !query.terms().isBlank();
+            return countLocked(query, hasTerms ? snapshot.search(query.terms()) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        // the first read loads the changes of the snapshot
+        lock.writeLock().lock();
+        try {
+            return changeLog.since(after, limit, this::findAllById);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // replays writes whether or not they are already applied
+    void upsertAll(final List<Category> categories) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(categories);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // a create only writes new ids, an update only existing ones
+    private List<Category> write(final List<Category> categories, final boolean creating) {
+        lock.writeLock().lock();
+        try {
+            final var created = creating ? new HashSet<CategoryId>() : null;
+            for (final var category : categories) {
+                final var id = category.getId();
+                final var exists = isVisible(id) || (creating && !created.add(id));
+                if (exists == creating) {
+                    throw DomainException.with(creating ? CategoryErrors.ALREADY_EXISTS : CategoryErrors.NOT_FOUND);
+                }
+            }
+            upsertLocked(categories);
+            return categories;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // the last write of an id wins
+    private void upsertLocked(final List<Category> categories) {
+        final var latest = new LinkedHashMap<CategoryId, Category>(Math.max(16, categories.size() * 4 / 3 + 1));
+        categories.forEach(category -> latest.put(category.getId(), category));
+        final var written = overlay.findAllById(latest.keySet());
+        final var updates = new ArrayList<Category>();
+        final var creates = new ArrayList<Category>();
+        for (final var category : latest.values()) {
+            shadow(category.getId());
+            (written.containsKey(category.getId()) ? updates : creates).add(category);
+        }
+        overlay.updateAll(updates);
+        overlay.createAll(creates);
+        categories.forEach(category -> changeLog.upserted(category.getId(), category.getUpdatedAt()));
+    }
+
+    private boolean isVisible(final CategoryId id) {
+        return overlay.findById(id).isPresent() || (snapshot.contains(id) && !shadowed.contains(id));
+    }
+
+    private Pagination<Category> page(final CategorySearchQuery query, final boolean withTotal) {
+        final var sort = CategorySort.from(query.sort());
+        final var descending = CategorySort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var after = query.hasCursor() ? CategoryCursor.decode(query.cursor(), sort, descending).last() : null;
+        final var offset = after != null ? 0 : (long) Math.max(query.page(), 0) * perPage;
+        final var hasTerms = query.terms() != null && !query.terms().isBlank();
+
+        lock.readLock().lock();
+        try {
+            final var matches = hasTerms ? snapshot.search(query.terms()) : null;
+            final var fromOverlay = overlay.stream(new CategorySearchQuery(
+                    0, OVERLAY_CHUNK_SIZE, query.terms(), query.sort(), query.direction(), query.cursor()
+            )).iterator();
+            final var merged = new MergingIterator(
+                    visible(snapshot.iterator(sort, descending, after, matches)),
+                    fromOverlay,
+                    descending ? sort.comparator().reversed() : sort.comparator()
+            );
+            for (long skipped = 0; skipped < offset && merged.hasNext(); skipped++) {
+                merged.next();
+            }
+            final var items = new ArrayList<Category>(Math.min(perPage, OVERLAY_CHUNK_SIZE));
+            while (items.size() < perPage && merged.hasNext()) {
+                items.add(Category.with(merged.next()));
+            }
+            final var nextCursor = merged.hasNext() && !items.isEmpty()
+                    ? CategoryCursor.of(sort, descending, items.getLast()).encode()
+                    : null;
+            final var total = withTotal ? countLocked(query, matches) : UNKNOWN_TOTAL;
+            return new Pagination<>(query.page(), perPage, total, List.copyOf(items), nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long countLocked(final CategorySearchQuery query, final BitSet matches) {
+        if (matches == null) {
+            return snapshot.size() - shadowed.size() + overlay.count(query);
+        }
+        long matching = matches.cardinality();
+        for (final var id : shadowed) {
+            if (matches.get(snapshot.positionOf(id))) {
+                matching--;
+            }
+        }
+        return matching + overlay.count(query);
+    }
+
+    private void shadow(final CategoryId id) {
+        if (snapshot.contains(id)) {
+            shadowed.add(id);
+        }
+    }
+
+    private Iterator<Category> visible(final Iterator<Category> categories) {
+        return new Iterator<>() {
+            private Category next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Category next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final var current = next;
+                next = advance();
+                return current;
+            }
+
+            private Category advance() {
+                while (categories.hasNext()) {
+                    final var category = categories.next();
+                    if (!shadowed.contains(category.getId())) {
+                        return category;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    private static final class MergingIterator implements Iterator<Category> {
+        private final Iterator<Category> left;
+        private final Iterator<Category> right;
+        private final Comparator<Category> comparator;
+        private Category nextLeft;
+        private Category nextRight;
+
+        private MergingIterator(final Iterator<Category> left, final Iterator<Category> right, final Comparator<Category> comparator) {
+            this.left = left;
+            this.right = right;
+            this.comparator = comparator;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLeft != null || nextRight != null;
+        }
+
+        @Override
+        public Category next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Category result;
+            if (nextRight == null || (nextLeft != null && comparator.compare(nextLeft, nextRight) < 0)) {
+                result = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                result = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            return result;
+        }
+    }
+}
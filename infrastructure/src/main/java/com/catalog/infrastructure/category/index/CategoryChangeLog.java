@@ -0,0 +1,202 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Latest change of every category by (changedAt, id). Tombstones older than {@code tombstoneRetention}
+ * are dropped and watermarks before them rejected. A persisted log can be {@link #resume resumed} and is
+ * only loaded on first use. Not thread-safe: callers guard it with their own lock.
+ */
+public class CategoryChangeLog {
+
+    public static final Duration DEFAULT_TOMBSTONE_RETENTION = Duration.ofDays(7);
+
+    private final Duration tombstoneRetention;
+    // true for a tombstone
+    private final NavigableMap<CategoryWatermark, Boolean> changes = new TreeMap<>();
+    private final Map<CategoryId, CategoryWatermark> latest = new HashMap<>();
+    private final Deque<CategoryWatermark> tombstones = new ArrayDeque<>();
+    private Instant lastChangedAt = Instant.MIN;
+    private Instant horizon = Instant.MIN;
+    private Consumer<BiConsumer<CategoryWatermark, Boolean>> earlier;
+
+    public CategoryChangeLog(final Duration tombstoneRetention) {
+        if (tombstoneRetention.isNegative()) {
+            throw new IllegalArgumentException("'tombstoneRetention' cannot be negative");
+        }
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public void upserted(final CategoryId id, final Instant updatedAt) {
+        record(new CategoryWatermark(stamp(updatedAt), id), false);
+    }
+
+    public void deleted(final CategoryId id, final Instant deletedAt) {
+        record(new CategoryWatermark(stamp(deletedAt), id), true);
+    }
+
+    // strictly increasing, so a handed out watermark never skips a write
+    public Instant stamp(final Instant at) {
+        final var candidate = at != null ? at : Instant.now();
+        lastChangedAt = candidate.isAfter(lastChangedAt) ? candidate : lastChangedAt.plusNanos(1);
+        return lastChangedAt;
+    }
+
+    // a change stamped earlier, in stamp order
+    public void record(final CategoryWatermark watermark, final boolean deleted) {
+        if (watermark.changedAt().isAfter(lastChangedAt)) {
+            lastChangedAt = watermark.changedAt();
+        }
+        final var previous = latest.put(watermark.id(), watermark);
+        if (previous != null) {
+            changes.remove(previous);
+        }
+        changes.put(watermark, deleted);
+        if (deleted) {
+            tombstones.addLast(watermark);
+            purgeTombstones();
+        }
+    }
+
+    // every change in {@code earlier} precedes the ones recorded here
+    public void resume(
+            final Instant lastChangedAt,
+            final Instant horizon,
+            final Consumer<BiConsumer<CategoryWatermark, Boolean>> earlier
+    ) {
+        if (lastChangedAt.isAfter(this.lastChangedAt)) {
+            this.lastChangedAt = lastChangedAt;
+        }
+        expireBefore(horizon);
+        this.earlier = earlier;
+    }
+
+    // shares the resumed changes, which are only read
+    public CategoryChangeLog copy() {
+        final var copy = new CategoryChangeLog(tombstoneRetention);
+        copy.changes.putAll(changes);
+        copy.latest.putAll(latest);
+        copy.tombstones.addAll(tombstones);
+        copy.lastChangedAt = lastChangedAt;
+        copy.horizon = horizon;
+        copy.earlier = earlier;
+        return copy;
+    }
+
+    public Instant lastChangedAt() {
+        return lastChangedAt;
+    }
+
+    public Instant horizon() {
+        return horizon;
+    }
+
+    public int size() {
+        load();
+        return changes.size();
+    }
+
+    public void forEach(final BiConsumer<CategoryWatermark, Boolean> consumer) {
+        load();
+        changes.forEach(consumer);
+    }
+
+    public void expireBefore(final Instant at) {
+        if (at.isAfter(horizon)) {
+            horizon = at;
+        }
+    }
+
+    public CategoryChanges since(
+            final CategoryWatermark after,
+            final int limit,
+            final Function<Collection<CategoryId>, Map<CategoryId, Category>> lookup
+    ) {
+        if (limit <= 0) {
+            throw DomainException.with(CategoryErrors.LIMIT_INVALID);
+        }
+        if (after != null && after.changedAt().isBefore(horizon)) {
+            throw DomainException.with(CategoryErrors.WATERMARK_EXPIRED);
+        }
+        load();
+        final var pending = (after == null ? changes : changes.tailMap(after, false)).entrySet().iterator();
+        final var page = new ArrayList<Map.Entry<CategoryWatermark, Boolean>>(Math.min(limit, 1024));
+        final var upserted = new ArrayList<CategoryId>();
+        while (page.size() < limit && pending.hasNext()) {
+            final var entry = pending.next();
+            page.add(entry);
+            if (!entry.getValue()) {
+                upserted.add(entry.getKey().id());
+            }
+        }
+        final var categories = upserted.isEmpty() ? Map.<CategoryId, Category>of() : lookup.apply(upserted);
+        final var result = new ArrayList<CategoryChange>(page.size());
+        for (final var entry : page) {
+            final var watermark = entry.getKey();
+            result.add(entry.getValue()
+                    ? CategoryChange.deleted(watermark.id(), watermark.changedAt())
+                    : CategoryChange.upserted(watermark.changedAt(), Objects.requireNonNull(categories.get(watermark.id()))));
+        }
+        final var watermark = page.isEmpty() ? after : page.getLast().getKey();
+        return new CategoryChanges(List.copyOf(result), watermark, pending.hasNext());
+    }
+
+    private void load() {
+        if (earlier == null) {
+            return;
+        }
+        final var source = earlier;
+        earlier = null;
+        final var restored = new ArrayList<CategoryWatermark>();
+        source.accept((watermark, deleted) -> {
+            // anything recorded since is newer
+            if (latest.putIfAbsent(watermark.id(), watermark) == null) {
+                changes.put(watermark, deleted);
+                if (deleted) {
+                    restored.add(watermark);
+                }
+            }
+        });
+        for (int i = restored.size() - 1; i >= 0; i--) {
+            tombstones.addFirst(restored.get(i));
+        }
+        purgeTombstones();
+    }
+
+    // a tombstone re-created since is no longer in the log; waits for the resumed changes to be loaded
+    private void purgeTombstones() {
+        if (earlier != null) {
+            return;
+        }
+        final var cutoff = lastChangedAt.minus(tombstoneRetention);
+        while (!tombstones.isEmpty() && tombstones.peekFirst().changedAt().isBefore(cutoff)) {
+            final var tombstone = tombstones.pollFirst();
+            if (changes.remove(tombstone) != null) {
+                latest.remove(tombstone.id());
+                expireBefore(tombstone.changedAt().plusNanos(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.exceptions.DomainException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort key and id of the last category of a page. The encoded form
+ * carries the sort field and direction so a cursor cannot be replayed against a different ordering.
+ */
+public record CategoryCursor(CategorySort sort, boolean descending, Category last) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "\n";
+
+    public static CategoryCursor of(final CategorySort sort, final boolean descending, final Category last) {
+        return new CategoryCursor(sort, descending, last);
+    }
+
+    public static CategoryCursor decode(final String cursor, final CategorySort sort, final boolean descending) {
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 5);
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw invalid();
+        }
+        if (!sort.field().equals(parts[1]) || descending != "desc".equals(parts[2])) {
+            throw DomainException.with(CategoryErrors.CURSOR_SORT_MISMATCH);
+        }
+        try {
+            return new CategoryCursor(sort, descending, probe(sort, CategoryId.from(parts[3]), parts[4]));
+        } catch (final RuntimeException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        final var value = String.join(
+                SEPARATOR,
+                VERSION,
+                sort.field(),
+                descending ? "desc" : "asc",
+                last.getId().getValue(),
+                sortValue()
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String sortValue() {
+        return switch (sort) {
+            case NAME -> last.getName() == null ? "" : "=" + last.getName();
+            case CREATED_AT -> encodeInstant(last.getCreatedAt());
+            case UPDATED_AT -> encodeInstant(last.getUpdatedAt());
+        };
+    }
+
+    // a category carrying only the fields the sort comparator looks at
+    private static Category probe(final CategorySort sort, final CategoryId id, final String value) {
+        return switch (sort) {
+            case NAME -> Category.with(id, value.isEmpty() ? null : value.substring(1), null, true, null, null, null);
+            case CREATED_AT -> Category.with(id, null, null, true, decodeInstant(value), null, null);
+            case UPDATED_AT -> Category.with(id, null, null, true, null, decodeInstant(value), null);
+        };
+    }
+
+    private static String encodeInstant(final Instant instant) {
+        return instant == null ? "" : instant.getEpochSecond() + "." + instant.getNano();
+    }
+
+    private static Instant decodeInstant(final String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        final var dot = value.indexOf('.');
+        return Instant.ofEpochSecond(Long.parseLong(value.substring(0, dot)), Long.parseLong(value.substring(dot + 1)));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(CategoryErrors.CURSOR_INVALID);
+    }
+}
@@ -0,0 +1,46 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+
+import java.util.Comparator;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsFirst;
+
+public enum CategorySort {
+    NAME("name", comparing(Category::getName, nullsFirst(String.CASE_INSENSITIVE_ORDER))),
+    CREATED_AT("createdAt", comparing(Category::getCreatedAt, nullsFirst(Comparator.naturalOrder()))),
+    UPDATED_AT("updatedAt", comparing(Category::getUpdatedAt, nullsFirst(Comparator.naturalOrder())));
+
+    private final String field;
+    private final Comparator<Category> comparator;
+
+    CategorySort(final String field, final Comparator<Category> byField) {
+        this.field = field;
+        this.comparator = byField.thenComparing(Category::getId);
+    }
+
+    public static CategorySort from(final String field) {
+        if (field == null || field.isBlank()) {
+            return NAME;
+        }
+        for (final var sort : values()) {
+            if (sort.field.equalsIgnoreCase(field.trim())) {
+                return sort;
+            }
+        }
+        return NAME;
+    }
+
+    public static boolean isDescending(final String direction) {
+        return "desc".equalsIgnoreCase(direction);
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public Comparator<Category> comparator() {
+        return comparator;
+    }
+}
@@ -0,0 +1,139 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of normalized name/description tokens for prefix queries. Not thread-safe.
+ */
+public class CategoryTermIndex {
+
+    private final TreeMap<String, IntSet> postings = new TreeMap<>();
+    private final Map<CategoryId, Entry> entries = new HashMap<>();
+    private CategoryId[] ids = new CategoryId[16];
+    private int[] freeOrdinals = new int[16];
+    private int freeCount;
+    private int nextOrdinal;
+
+    public void add(final Category category) {
+        remove(category.getId());
+        final var tokens = CategoryTerms.tokensOf(category).toArray(String[]::new);
+        if (tokens.length == 0) {
+            return;
+        }
+        final var ordinal = acquireOrdinal(category.getId());
+        entries.put(category.getId(), new Entry(ordinal, tokens));
+        for (final var token : tokens) {
+            postings.computeIfAbsent(token, key -> new IntSet()).add(ordinal);
+        }
+    }
+
+    public void remove(final CategoryId id) {
+        final var entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (final var token : entry.tokens()) {
+            final var ordinals = postings.get(token);
+            if (ordinals != null && ordinals.remove(entry.ordinal()) && ordinals.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        releaseOrdinal(entry.ordinal());
+    }
+
+    public void clear() {
+        postings.clear();
+        entries.clear();
+        Arrays.fill(ids, null);
+        freeCount = 0;
+        nextOrdinal = 0;
+    }
+
+    public Matches search(final String terms) {
+        final var queryTokens = CategoryTerms.tokenize(terms);
+        if (queryTokens.isEmpty()) {
+            return new Matches(new BitSet());
+        }
+        BitSet result = null;
+        for (final var queryToken : queryTokens) {
+            final var bits = new BitSet(nextOrdinal);
+            for (final var ordinals : postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values()) {
+                ordinals.addTo(bits);
+            }
+            if (result == null) {
+                result = bits;
+            } else {
+                result.and(bits);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return new Matches(result);
+    }
+
+    private int acquireOrdinal(final CategoryId id) {
+        final int ordinal;
+        if (freeCount > 0) {
+            ordinal = freeOrdinals[--freeCount];
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+        ids[ordinal] = id;
+        return ordinal;
+    }
+
+    private void releaseOrdinal(final int ordinal) {
+        ids[ordinal] = null;
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeOrdinals.length * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    private record Entry(int ordinal, String[] tokens) {
+    }
+
+    public final class Matches {
+        private final BitSet ordinals;
+        private final int size;
+
+        private Matches(final BitSet ordinals) {
+            this.ordinals = ordinals;
+            this.size = ordinals.cardinality();
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public boolean contains(final CategoryId id) {
+            final var entry = entries.get(id);
+            return entry != null && ordinals.get(entry.ordinal());
+        }
+
+        public List<CategoryId> ids() {
+            final var result = new ArrayList<CategoryId>(size);
+            for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+    }
+}
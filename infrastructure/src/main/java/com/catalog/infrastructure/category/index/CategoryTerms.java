@@ -0,0 +1,97 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class CategoryTerms {
+
+    // NFD-stripped, lower-cased form of U+00C0..U+00FF, so Latin-1 text skips the Normalizer
+    private static final String LATIN1_FOLDED =
+            "aaaaaa\u00e6ceeeeiiii\u00f0nooooo\u00d7\u00f8uuuuy\u00fe\u00df"
+                    + "aaaaaa\u00e6ceeeeiiii\u00f0nooooo\u00f7\u00f8uuuuy\u00fey";
+
+    private CategoryTerms() {
+    }
+
+    public static String normalize(final String value) {
+        if (value == null) {
+            return "";
+        }
+        final var folded = new char[value.length()];
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            if (c < 0x80) {
+                folded[i] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            } else if (c >= 0xC0 && c <= 0xFF) {
+                folded[i] = LATIN1_FOLDED.charAt(c - 0xC0);
+            } else {
+                return decompose(value);
+            }
+        }
+        return new String(folded);
+    }
+
+    private static String decompose(final String value) {
+        final var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        final var stripped = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            final var c = decomposed.charAt(i);
+            if (!isCombiningMark(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString().toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokenize(final String value) {
+        final var normalized = normalize(value);
+        final var tokens = new ArrayList<String>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+
+    public static Set<String> tokensOf(final Category category) {
+        final var tokens = new LinkedHashSet<String>(tokenize(category.getName()));
+        tokens.addAll(tokenize(category.getDescription()));
+        return tokens;
+    }
+
+    public static boolean matches(final Category category, final List<String> queryTokens) {
+        return matches(tokensOf(category), queryTokens);
+    }
+
+    public static boolean matches(final Set<String> tokens, final List<String> queryTokens) {
+        for (final var queryToken : queryTokens) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(queryToken))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCombiningMark(final char c) {
+        final var type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+}
@@ -0,0 +1,170 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Thread-safe {@link CategoryChangeLog}. A change is {@link #stamp stamped} inside the write that makes it
+ * and only served once every change stamped before it has been {@link #record recorded}.
+ */
+public class ConcurrentCategoryChangeLog {
+
+    private final Duration tombstoneRetention;
+    // true for a tombstone
+    private final NavigableMap<CategoryWatermark, Boolean> changes = new ConcurrentSkipListMap<>();
+    private final Map<CategoryId, CategoryWatermark> latest = new ConcurrentHashMap<>();
+    private final Queue<CategoryWatermark> tombstones = new ConcurrentLinkedQueue<>();
+    private final NavigableSet<Floor> unrecorded = new ConcurrentSkipListSet<>(
+            Comparator.comparing(Floor::after).thenComparingLong(Floor::ticket)
+    );
+    private final AtomicLong tickets = new AtomicLong();
+    private final AtomicReference<Instant> lastChangedAt = new AtomicReference<>(Instant.MIN);
+    private final AtomicReference<Instant> horizon = new AtomicReference<>(Instant.MIN);
+
+    public ConcurrentCategoryChangeLog(final Duration tombstoneRetention) {
+        if (tombstoneRetention.isNegative()) {
+            throw new IllegalArgumentException("'tombstoneRetention' cannot be negative");
+        }
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // strictly increasing; holds back later changes until it is recorded
+    public Stamp stamp(final Instant at) {
+        final var floor = new Floor(lastChangedAt.get(), tickets.incrementAndGet());
+        unrecorded.add(floor);
+        final var candidate = at != null ? at : Instant.now();
+        final var changedAt = lastChangedAt.updateAndGet(last -> candidate.isAfter(last) ? candidate : last.plusNanos(1));
+        return new Stamp(floor, changedAt);
+    }
+
+    public void record(final Stamp stamp, final CategoryId id, final boolean deleted) {
+        final var watermark = new CategoryWatermark(stamp.changedAt, id);
+        try {
+            latest.compute(id, (key, previous) -> {
+                if (previous != null && previous.compareTo(watermark) > 0) {
+                    return previous;
+                }
+                changes.put(watermark, deleted);
+                if (previous != null) {
+                    changes.remove(previous);
+                }
+                return watermark;
+            });
+        } finally {
+            unrecorded.remove(stamp.floor);
+        }
+        if (deleted) {
+            tombstones.add(watermark);
+            purgeTombstones();
+        }
+    }
+
+    public CategoryChanges since(
+            final CategoryWatermark after,
+            final int limit,
+            final Function<Collection<CategoryId>, Map<CategoryId, Category>> lookup
+    ) {
+        if (limit <= 0) {
+            throw DomainException.with(CategoryErrors.LIMIT_INVALID);
+        }
+        ensureRetained(after);
+        final var visibleUpTo = visibleUpTo();
+        final var pending = (after == null ? changes : changes.tailMap(after, false)).entrySet().iterator();
+        final var page = new ArrayList<Map.Entry<CategoryWatermark, Boolean>>(Math.min(limit, 1024));
+        final var upserted = new ArrayList<CategoryId>();
+        var hasMore = false;
+        while (pending.hasNext()) {
+            final var entry = pending.next();
+            if (entry.getKey().changedAt().isAfter(visibleUpTo)) {
+                break;
+            }
+            if (page.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            page.add(entry);
+            if (!entry.getValue()) {
+                upserted.add(entry.getKey().id());
+            }
+        }
+        // a tombstone the page skipped may have been purged meanwhile
+        ensureRetained(after);
+        final var categories = upserted.isEmpty() ? Map.<CategoryId, Category>of() : lookup.apply(upserted);
+        final var result = new ArrayList<CategoryChange>(page.size());
+        for (final var entry : page) {
+            final var watermark = entry.getKey();
+            if (entry.getValue()) {
+                result.add(CategoryChange.deleted(watermark.id(), watermark.changedAt()));
+            } else if (categories.containsKey(watermark.id())) {
+                // otherwise deleted since, and its tombstone is still ahead
+                result.add(CategoryChange.upserted(watermark.changedAt(), categories.get(watermark.id())));
+            }
+        }
+        final var watermark = page.isEmpty() ? after : page.getLast().getKey();
+        return new CategoryChanges(List.copyOf(result), watermark, hasMore);
+    }
+
+    private void ensureRetained(final CategoryWatermark after) {
+        if (after != null && after.changedAt().isBefore(horizon.get())) {
+            throw DomainException.with(CategoryErrors.WATERMARK_EXPIRED);
+        }
+    }
+
+    // read before the unrecorded floors, so a stamp taken in between lands after it
+    private Instant visibleUpTo() {
+        final var last = lastChangedAt.get();
+        for (final var floor : unrecorded) {
+            return floor.after().isBefore(last) ? floor.after() : last;
+        }
+        return last;
+    }
+
+    // a tombstone re-created since is no longer in the log
+    private void purgeTombstones() {
+        final var cutoff = lastChangedAt.get().minus(tombstoneRetention);
+        for (var tombstone = tombstones.peek(); tombstone != null && tombstone.changedAt().isBefore(cutoff); tombstone = tombstones.peek()) {
+            if (tombstones.remove(tombstone) && latest.remove(tombstone.id(), tombstone)) {
+                final var expired = tombstone.changedAt().plusNanos(1);
+                horizon.accumulateAndGet(expired, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+                changes.remove(tombstone);
+            }
+        }
+    }
+
+    public static final class Stamp {
+        private final Floor floor;
+        private final Instant changedAt;
+
+        private Stamp(final Floor floor, final Instant changedAt) {
+            this.floor = floor;
+            this.changedAt = changedAt;
+        }
+    }
+
+    // every stamp taken with this floor is after it
+    private record Floor(Instant after, long ticket) {
+    }
+}
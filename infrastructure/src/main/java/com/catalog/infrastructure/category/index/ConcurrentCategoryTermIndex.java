@@ -0,0 +1,91 @@
+package com.catalog.infrastructure.category.index;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+/**
+ * Thread-safe {@link CategoryTermIndex}: writers only contend on the id they index and the tokens they touch.
+ */
+public class ConcurrentCategoryTermIndex {
+
+    private final Map<String, Set<CategoryId>> postings = new ConcurrentHashMap<>();
+    private final NavigableSet<String> vocabulary = new ConcurrentSkipListSet<>();
+    private final Map<CategoryId, Entry> entries = new ConcurrentHashMap<>();
+
+    // indexes whatever {@code current} holds for the id now, so the last sync of an id always wins
+    public void sync(final CategoryId id, final Function<CategoryId, Category> current) {
+        entries.compute(id, (key, previous) -> {
+            final var category = current.apply(key);
+            if (previous != null && previous.category() == category) {
+                return previous;
+            }
+            final var tokens = category == null ? Set.<String>of() : CategoryTerms.tokensOf(category);
+            if (previous != null) {
+                for (final var token : previous.tokens()) {
+                    if (!tokens.contains(token)) {
+                        unpost(token, key);
+                    }
+                }
+            }
+            for (final var token : tokens) {
+                if (previous == null || !previous.tokens().contains(token)) {
+                    post(token, key);
+                }
+            }
+            return category == null ? null : new Entry(category, tokens);
+        });
+    }
+
+    public Set<CategoryId> search(final String terms) {
+        Set<CategoryId> result = null;
+        for (final var queryToken : CategoryTerms.tokenize(terms)) {
+            final var ids = new HashSet<CategoryId>();
+            for (final var token : vocabulary.subSet(queryToken, true, queryToken + Character.MAX_VALUE, false)) {
+                final var posting = postings.get(token);
+                if (posting != null) {
+                    ids.addAll(posting);
+                }
+            }
+            if (result == null) {
+                result = ids;
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? new HashSet<>() : result;
+    }
+
+    private void post(final String token, final CategoryId id) {
+        postings.compute(token, (key, ids) -> {
+            final var posting = ids != null ? ids : ConcurrentHashMap.<CategoryId>newKeySet();
+            posting.add(id);
+            vocabulary.add(key);
+            return posting;
+        });
+    }
+
+    private void unpost(final String token, final CategoryId id) {
+        postings.computeIfPresent(token, (key, ids) -> {
+            ids.remove(id);
+            if (!ids.isEmpty()) {
+                return ids;
+            }
+            vocabulary.remove(key);
+            return null;
+        });
+    }
+
+    private record Entry(Category category, Set<String> tokens) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.catalog.infrastructure.category.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Set of non-negative ints for posting lists; switches to a {@link BitSet} once dense.
+ */
+final class IntSet {
+
+    private static final int EMPTY = -1;
+    private static final int MIN_DENSE_SIZE = 1024;
+    private static final int DENSITY_FACTOR = 16;
+
+    private int[] slots;
+    private BitSet dense;
+    private int size;
+    private int max;
+
+    IntSet() {
+        this.slots = new int[4];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean add(final int value) {
+        if (dense != null) {
+            if (dense.get(value)) {
+                return false;
+            }
+            dense.set(value);
+            size++;
+            return true;
+        }
+        if (!addSparse(value)) {
+            return false;
+        }
+        max = Math.max(max, value);
+        if (size >= MIN_DENSE_SIZE && (long) size * DENSITY_FACTOR >= max) {
+            toDense();
+        }
+        return true;
+    }
+
+    boolean remove(final int value) {
+        if (dense != null) {
+            if (!dense.get(value)) {
+                return false;
+            }
+            dense.clear(value);
+            size--;
+            if (size < MIN_DENSE_SIZE / 2) {
+                toSparse();
+            }
+            return true;
+        }
+        return removeSparse(value);
+    }
+
+    void addTo(final BitSet bits) {
+        if (dense != null) {
+            bits.or(dense);
+            return;
+        }
+        for (final int value : slots) {
+            if (value != EMPTY) {
+                bits.set(value);
+            }
+        }
+    }
+
+    private boolean addSparse(final int value) {
+        if ((size + 1) * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+        final int mask = slots.length - 1;
+        int slot = mix(value) & mask;
+        while (slots[slot] != EMPTY) {
+            if (slots[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = value;
+        size++;
+        return true;
+    }
+
+    private boolean removeSparse(final int value) {
+        final int mask = slots.length - 1;
+        int slot = mix(value) & mask;
+        while (slots[slot] != value) {
+            if (slots[slot] == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slots[next] != EMPTY) {
+            final int home = mix(slots[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private void resize(final int capacity) {
+        final var previous = slots;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        for (final int value : previous) {
+            if (value != EMPTY) {
+                addSparse(value);
+            }
+        }
+    }
+
+    private void toDense() {
+        final var bits = new BitSet(max + 1);
+        addTo(bits);
+        dense = bits;
+        slots = null;
+    }
+
+    private void toSparse() {
+        final var bits = dense;
+        dense = null;
+        slots = new int[Math.max(4, Integer.highestOneBit(Math.max(1, size)) * 4)];
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        max = 0;
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            addSparse(i);
+            max = i;
+        }
+    }
+
+    private static int mix(final int value) {
+        final int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
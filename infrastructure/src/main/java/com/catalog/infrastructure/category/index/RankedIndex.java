@@ -0,0 +1,215 @@
+package com.catalog.infrastructure.category.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Ordered set backed by a size-augmented treap. Not thread-safe.
+ */
+public class RankedIndex<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    public RankedIndex(final Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    public boolean contains(final T value) {
+        var node = root;
+        while (node != null) {
+            final int cmp = comparator.compare(value, node.value);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    public boolean add(final T value) {
+        Objects.requireNonNull(value);
+        if (contains(value)) {
+            return false;
+        }
+        final var parts = split(root, value);
+        root = merge(merge(parts.left, new Node<>(value, random.nextInt())), parts.right);
+        return true;
+    }
+
+    public boolean remove(final T value) {
+        if (!contains(value)) {
+            return false;
+        }
+        root = remove(root, value);
+        return true;
+    }
+
+    public List<T> slice(final int offset, final int limit, final boolean descending) {
+        final var items = new ArrayList<T>(Math.max(0, Math.min(limit, size() - offset)));
+        final var iterator = iterator(offset, descending);
+        while (items.size() < limit && iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    public Iterator<T> iterator(final int offset, final boolean descending) {
+        final Deque<Node<T>> stack = new ArrayDeque<>();
+        if (offset < 0 || offset >= size()) {
+            return new InOrderIterator<>(stack, descending);
+        }
+        var node = root;
+        var remaining = offset;
+        while (node != null) {
+            final var before = size(descending ? node.right : node.left);
+            if (remaining < before) {
+                stack.push(node);
+                node = descending ? node.right : node.left;
+            } else if (remaining == before) {
+                stack.push(node);
+                break;
+            } else {
+                remaining -= before + 1;
+                node = descending ? node.left : node.right;
+            }
+        }
+        return new InOrderIterator<>(stack, descending);
+    }
+
+    public Iterator<T> iteratorAfter(final T key, final boolean descending) {
+        final Deque<Node<T>> stack = new ArrayDeque<>();
+        var node = root;
+        while (node != null) {
+            final int cmp = comparator.compare(node.value, key);
+            if (descending ? cmp < 0 : cmp > 0) {
+                stack.push(node);
+                node = descending ? node.right : node.left;
+            } else {
+                node = descending ? node.left : node.right;
+            }
+        }
+        return new InOrderIterator<>(stack, descending);
+    }
+
+    private Node<T> remove(final Node<T> node, final T value) {
+        final int cmp = comparator.compare(value, node.value);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, value);
+        } else {
+            node.right = remove(node.right, value);
+        }
+        node.update();
+        return node;
+    }
+
+    // splits into (< value) and (>= value)
+    private Split<T> split(final Node<T> node, final T value) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (comparator.compare(node.value, value) < 0) {
+            final var parts = split(node.right, value);
+            node.right = parts.left;
+            node.update();
+            return new Split<>(node, parts.right);
+        }
+        final var parts = split(node.left, value);
+        node.left = parts.right;
+        node.update();
+        return new Split<>(parts.left, node);
+    }
+
+    private Node<T> merge(final Node<T> left, final Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(final Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private record Split<T>(Node<T> left, Node<T> right) {
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(final T value, final int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            this.size = 1 + size(left) + size(right);
+        }
+    }
+
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> stack;
+        private final boolean descending;
+
+        private InOrderIterator(final Deque<Node<T>> stack, final boolean descending) {
+            this.stack = stack;
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final var node = stack.pop();
+            var next = descending ? node.left : node.right;
+            while (next != null) {
+                stack.push(next);
+                next = descending ? next.right : next.left;
+            }
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.catalog.infrastructure.category.offheap;
+
+import com.catalog.domain.category.CategoryId;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from a category id to the address and length of its record, in primitive arrays.
+ */
+final class CategoryAddressTable {
+
+    static final long ABSENT = -1L;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private long[] addresses;
+    private int[] lengths;
+    private int size;
+
+    CategoryAddressTable() {
+        allocate(16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return addresses.length;
+    }
+
+    boolean isOccupied(final int slot) {
+        return addresses[slot] != ABSENT;
+    }
+
+    long addressAt(final int slot) {
+        return addresses[slot];
+    }
+
+    int lengthAt(final int slot) {
+        return lengths[slot];
+    }
+
+    void moveTo(final int slot, final long address) {
+        addresses[slot] = address;
+    }
+
+    int slotOf(final CategoryId id) {
+        final int mask = addresses.length - 1;
+        final long msb = id.getMostSignificantBits();
+        final long lsb = id.getLeastSignificantBits();
+        int slot = mix(msb, lsb) & mask;
+        while (addresses[slot] != ABSENT) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // returns the length of the replaced record, or -1
+    int put(final CategoryId id, final long address, final int length) {
+        final var existing = slotOf(id);
+        if (existing >= 0) {
+            final var previous = lengths[existing];
+            addresses[existing] = address;
+            lengths[existing] = length;
+            return previous;
+        }
+        if ((size + 1) * 4 > addresses.length * 3) {
+            resize(addresses.length * 2);
+        }
+        insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), address, length);
+        return -1;
+    }
+
+    // returns the length of the removed record, or -1
+    int remove(final CategoryId id) {
+        final var slot = slotOf(id);
+        if (slot < 0) {
+            return -1;
+        }
+        final var removed = lengths[slot];
+        final int mask = addresses.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (addresses[next] != ABSENT) {
+            final int home = mix(mostSignificantBits[next], leastSignificantBits[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                mostSignificantBits[hole] = mostSignificantBits[next];
+                leastSignificantBits[hole] = leastSignificantBits[next];
+                addresses[hole] = addresses[next];
+                lengths[hole] = lengths[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        addresses[hole] = ABSENT;
+        size--;
+        return removed;
+    }
+
+    private void insert(final long msb, final long lsb, final long address, final int length) {
+        final int mask = addresses.length - 1;
+        int slot = mix(msb, lsb) & mask;
+        while (addresses[slot] != ABSENT) {
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        addresses[slot] = address;
+        lengths[slot] = length;
+        size++;
+    }
+
+    private void resize(final int capacity) {
+        final var previousMsbs = mostSignificantBits;
+        final var previousLsbs = leastSignificantBits;
+        final var previousAddresses = addresses;
+        final var previousLengths = lengths;
+        allocate(capacity);
+        for (int i = 0; i < previousAddresses.length; i++) {
+            if (previousAddresses[i] != ABSENT) {
+                insert(previousMsbs[i], previousLsbs[i], previousAddresses[i], previousLengths[i]);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        addresses = new long[capacity];
+        lengths = new int[capacity];
+        Arrays.fill(addresses, ABSENT);
+        size = 0;
+    }
+
+    private static int mix(final long msb, final long lsb) {
+        final long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
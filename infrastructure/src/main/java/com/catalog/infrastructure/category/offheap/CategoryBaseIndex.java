@@ -0,0 +1,390 @@
+package com.catalog.infrastructure.category.offheap;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.infrastructure.category.index.CategorySort;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The categories as of the last fold, indexed in direct buffers: a table of ids and sort fields in id order,
+ * one rank array per {@link CategorySort} and the term postings, all by table position. Immutable; a fold
+ * merges it with the writes made since, so the catalog is never sorted again.
+ */
+final class CategoryBaseIndex {
+
+    private static final int INSTANT_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int CREATED_AT = 2 * Long.BYTES;
+    private static final int UPDATED_AT = CREATED_AT + INSTANT_BYTES;
+    private static final int NAME = UPDATED_AT + INSTANT_BYTES;
+    private static final int ENTRY_BYTES = NAME + Integer.BYTES;
+    private static final int ABSENT = -1;
+    private static final CategorySort[] SORTS = CategorySort.values();
+
+    private static final CategoryBaseIndex EMPTY = new CategoryBaseIndex(
+            0,
+            ByteBuffer.allocateDirect(0),
+            ByteBuffer.allocateDirect(0),
+            Arrays.stream(SORTS).map(sort -> ByteBuffer.allocateDirect(0)).toArray(ByteBuffer[]::new),
+            0,
+            ByteBuffer.allocateDirect(0),
+            ByteBuffer.allocateDirect(0)
+    );
+
+    private final int size;
+    private final ByteBuffer table;
+    private final ByteBuffer names;
+    private final ByteBuffer[] ranks;
+    private final int termCount;
+    private final ByteBuffer termOffsets;
+    private final ByteBuffer terms;
+
+    private CategoryBaseIndex(
+            final int size,
+            final ByteBuffer table,
+            final ByteBuffer names,
+            final ByteBuffer[] ranks,
+            final int termCount,
+            final ByteBuffer termOffsets,
+            final ByteBuffer terms
+    ) {
+        this.size = size;
+        this.table = table;
+        this.names = names;
+        this.ranks = ranks;
+        this.termCount = termCount;
+        this.termOffsets = termOffsets;
+        this.terms = terms;
+    }
+
+    static CategoryBaseIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * This index without the shadowed positions, plus the recent categories: their sort keys in each order and
+     * their tokens, with {@code current} giving each one's stored state.
+     */
+    static CategoryBaseIndex fold(
+            final CategoryBaseIndex base,
+            final BitSet shadowed,
+            final Map<CategorySort, ? extends NavigableSet<CategorySortKey>> recent,
+            final NavigableMap<String, Set<CategoryId>> recentPostings,
+            final Function<CategoryId, Category> current
+    ) {
+        final var recentIds = recent.get(CategorySort.NAME).stream().map(CategorySortKey::id).sorted().toList();
+        final var size = base.size - shadowed.cardinality() + recentIds.size();
+        long nameBytes = 0;
+        for (int position = shadowed.nextClearBit(0); position < base.size; position = shadowed.nextClearBit(position + 1)) {
+            nameBytes += base.nameBytesAt(position);
+        }
+        for (final var id : recentIds) {
+            final var name = current.apply(id).getName();
+            nameBytes += name == null ? 0 : Integer.BYTES + name.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        final var table = ByteBuffer.allocateDirect(Math.toIntExact((long) size * ENTRY_BYTES));
+        final var names = ByteBuffer.allocateDirect(Math.toIntExact(nameBytes));
+        final var remap = new int[base.size];
+        Arrays.fill(remap, ABSENT);
+        final var recentPositions = new HashMap<CategoryId, Integer>(Math.max(16, recentIds.size() * 4 / 3 + 1));
+        var position = shadowed.nextClearBit(0);
+        var next = 0;
+        for (int i = 0; next < size; next++) {
+            // a write shadows the base entry of its id, so an id is never on both sides
+            if (i == recentIds.size() || (position < base.size && base.idAt(position).compareTo(recentIds.get(i)) < 0)) {
+                remap[position] = next;
+                base.copyEntry(position, table, names);
+                position = shadowed.nextClearBit(position + 1);
+            } else {
+                final var id = recentIds.get(i++);
+                recentPositions.put(id, next);
+                putEntry(current.apply(id), table, names);
+            }
+        }
+
+        final var ranks = new ByteBuffer[SORTS.length];
+        for (final var sort : SORTS) {
+            ranks[sort.ordinal()] = mergeRanks(base, sort, shadowed, remap, recent.get(sort), recentPositions, size);
+        }
+
+        final long[] termSizes = {0, 0};
+        forEachTerm(base, remap, recentPostings, recentPositions, (term, postings, count) -> {
+            termSizes[0]++;
+            termSizes[1] += Integer.BYTES + term.length + Integer.BYTES + (long) count * Integer.BYTES;
+        });
+        final var termOffsets = ByteBuffer.allocateDirect(Math.toIntExact(termSizes[0] * Integer.BYTES));
+        final var terms = ByteBuffer.allocateDirect(Math.toIntExact(termSizes[1]));
+        forEachTerm(base, remap, recentPostings, recentPositions, (term, postings, count) -> {
+            termOffsets.putInt(terms.position());
+            terms.putInt(term.length).put(term).putInt(count);
+            for (int i = 0; i < count; i++) {
+                terms.putInt(postings[i]);
+            }
+        });
+        return new CategoryBaseIndex(size, table, names, ranks, (int) termSizes[0], termOffsets, terms);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int positionOf(final CategoryId id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int entry = middle * ENTRY_BYTES;
+            int cmp = Long.compareUnsigned(table.getLong(entry), id.getMostSignificantBits());
+            if (cmp == 0) {
+                cmp = Long.compareUnsigned(table.getLong(entry + Long.BYTES), id.getLeastSignificantBits());
+            }
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return ABSENT;
+    }
+
+    CategoryId idAt(final int position) {
+        final var entry = position * ENTRY_BYTES;
+        return CategoryId.from(table.getLong(entry), table.getLong(entry + Long.BYTES));
+    }
+
+    int positionAt(final CategorySort sort, final int rank) {
+        return ranks[sort.ordinal()].getInt(rank * Integer.BYTES);
+    }
+
+    CategorySortKey keyAt(final CategorySort sort, final int position) {
+        final var entry = position * ENTRY_BYTES;
+        return switch (sort) {
+            case NAME -> new CategorySortKey(nameAt(entry), null, idAt(position));
+            case CREATED_AT -> new CategorySortKey(null, instantAt(entry + CREATED_AT), idAt(position));
+            case UPDATED_AT -> new CategorySortKey(null, instantAt(entry + UPDATED_AT), idAt(position));
+        };
+    }
+
+    // first rank whose key sorts after key
+    int upperBound(final CategorySort sort, final CategorySortKey key) {
+        final var comparator = CategorySortKey.comparator(sort);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(keyAt(sort, positionAt(sort, middle)), key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // first rank whose key does not sort before key
+    int lowerBound(final CategorySort sort, final CategorySortKey key) {
+        final var comparator = CategorySortKey.comparator(sort);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(keyAt(sort, positionAt(sort, middle)), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // positions holding a term that starts with token
+    BitSet search(final String token) {
+        final var bits = new BitSet(size);
+        for (int term = firstTermFrom(token); term < termCount && termAt(term).startsWith(token); term++) {
+            final var postings = postingsOf(term);
+            final var count = terms.getInt(postings);
+            for (int i = 0; i < count; i++) {
+                bits.set(terms.getInt(postings + Integer.BYTES * (i + 1)));
+            }
+        }
+        return bits;
+    }
+
+    private static ByteBuffer mergeRanks(
+            final CategoryBaseIndex base,
+            final CategorySort sort,
+            final BitSet shadowed,
+            final int[] remap,
+            final NavigableSet<CategorySortKey> recent,
+            final Map<CategoryId, Integer> recentPositions,
+            final int size
+    ) {
+        final var comparator = CategorySortKey.comparator(sort);
+        final var out = ByteBuffer.allocateDirect(size * Integer.BYTES);
+        final var fromRecent = recent.iterator();
+        var pending = fromRecent.hasNext() ? fromRecent.next() : null;
+        for (int rank = 0; rank < base.size; rank++) {
+            final var position = base.positionAt(sort, rank);
+            if (shadowed.get(position)) {
+                continue;
+            }
+            if (pending != null) {
+                final var key = base.keyAt(sort, position);
+                while (pending != null && comparator.compare(pending, key) < 0) {
+                    out.putInt(recentPositions.get(pending.id()));
+                    pending = fromRecent.hasNext() ? fromRecent.next() : null;
+                }
+            }
+            out.putInt(remap[position]);
+        }
+        while (pending != null) {
+            out.putInt(recentPositions.get(pending.id()));
+            pending = fromRecent.hasNext() ? fromRecent.next() : null;
+        }
+        return out;
+    }
+
+    // the merged vocabulary in order, each term with the new positions of its postings
+    private static void forEachTerm(
+            final CategoryBaseIndex base,
+            final int[] remap,
+            final NavigableMap<String, Set<CategoryId>> recentPostings,
+            final Map<CategoryId, Integer> recentPositions,
+            final TermConsumer consumer
+    ) {
+        var postings = new int[16];
+        final var fromRecent = recentPostings.entrySet().iterator();
+        var pending = fromRecent.hasNext() ? fromRecent.next() : null;
+        var term = 0;
+        while (term < base.termCount || pending != null) {
+            final var baseTerm = term < base.termCount ? base.termAt(term) : null;
+            final var cmp = baseTerm == null ? 1 : pending == null ? -1 : baseTerm.compareTo(pending.getKey());
+            final var token = cmp <= 0 ? baseTerm : pending.getKey();
+            var count = 0;
+            if (cmp <= 0) {
+                final var at = base.postingsOf(term++);
+                final var stored = base.terms.getInt(at);
+                if (postings.length < stored) {
+                    postings = new int[stored];
+                }
+                for (int i = 0; i < stored; i++) {
+                    final var moved = remap[base.terms.getInt(at + Integer.BYTES * (i + 1))];
+                    if (moved != ABSENT) {
+                        postings[count++] = moved;
+                    }
+                }
+            }
+            if (cmp >= 0) {
+                final var ids = pending.getValue();
+                if (postings.length < count + ids.size()) {
+                    postings = Arrays.copyOf(postings, count + ids.size());
+                }
+                for (final var id : ids) {
+                    postings[count++] = recentPositions.get(id);
+                }
+                pending = fromRecent.hasNext() ? fromRecent.next() : null;
+            }
+            if (count > 0) {
+                consumer.accept(token.getBytes(StandardCharsets.UTF_8), postings, count);
+            }
+        }
+    }
+
+    private static void putEntry(final Category category, final ByteBuffer table, final ByteBuffer names) {
+        table.putLong(category.getId().getMostSignificantBits()).putLong(category.getId().getLeastSignificantBits());
+        putInstant(table, category.getCreatedAt());
+        putInstant(table, category.getUpdatedAt());
+        if (category.getName() == null) {
+            table.putInt(ABSENT);
+            return;
+        }
+        final var name = category.getName().getBytes(StandardCharsets.UTF_8);
+        table.putInt(names.position());
+        names.putInt(name.length).put(name);
+    }
+
+    private static void putInstant(final ByteBuffer table, final Instant instant) {
+        if (instant == null) {
+            table.putLong(0).putInt(ABSENT);
+        } else {
+            table.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+        }
+    }
+
+    private void copyEntry(final int position, final ByteBuffer table, final ByteBuffer names) {
+        final var entry = position * ENTRY_BYTES;
+        table.put(this.table.slice(entry, NAME));
+        final var name = this.table.getInt(entry + NAME);
+        if (name == ABSENT) {
+            table.putInt(ABSENT);
+            return;
+        }
+        table.putInt(names.position());
+        names.put(this.names.slice(name, Integer.BYTES + this.names.getInt(name)));
+    }
+
+    private int nameBytesAt(final int position) {
+        final var name = table.getInt(position * ENTRY_BYTES + NAME);
+        return name == ABSENT ? 0 : Integer.BYTES + names.getInt(name);
+    }
+
+    private String nameAt(final int entry) {
+        final var name = table.getInt(entry + NAME);
+        if (name == ABSENT) {
+            return null;
+        }
+        final var bytes = new byte[names.getInt(name)];
+        names.get(name + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Instant instantAt(final int offset) {
+        final var nanos = table.getInt(offset + Long.BYTES);
+        return nanos == ABSENT ? null : Instant.ofEpochSecond(table.getLong(offset), nanos);
+    }
+
+    private String termAt(final int term) {
+        final var record = termOffsets.getInt(term * Integer.BYTES);
+        final var bytes = new byte[terms.getInt(record)];
+        terms.get(record + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int postingsOf(final int term) {
+        final var record = termOffsets.getInt(term * Integer.BYTES);
+        return record + Integer.BYTES + terms.getInt(record);
+    }
+
+    // first term that does not sort before token
+    private int firstTermFrom(final String token) {
+        int low = 0;
+        int high = termCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (termAt(middle).compareTo(token) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+        void accept(byte[] term, int[] postings, int count);
+    }
+}
@@ -0,0 +1,34 @@
+package com.catalog.infrastructure.category.offheap;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.infrastructure.category.index.CategorySort;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * The field a {@link CategorySort} orders by, plus the id that breaks ties; only one of name and instant is set.
+ */
+record CategorySortKey(String name, Instant instant, CategoryId id) {
+
+    private static final Comparator<CategorySortKey> BY_NAME =
+            comparing(CategorySortKey::name, nullsFirst(String.CASE_INSENSITIVE_ORDER)).thenComparing(CategorySortKey::id);
+    private static final Comparator<CategorySortKey> BY_INSTANT =
+            comparing(CategorySortKey::instant, nullsFirst(Comparator.<Instant>naturalOrder())).thenComparing(CategorySortKey::id);
+
+    static CategorySortKey of(final CategorySort sort, final Category category) {
+        return switch (sort) {
+            case NAME -> new CategorySortKey(category.getName(), null, category.getId());
+            case CREATED_AT -> new CategorySortKey(null, category.getCreatedAt(), category.getId());
+            case UPDATED_AT -> new CategorySortKey(null, category.getUpdatedAt(), category.getId());
+        };
+    }
+
+    static Comparator<CategorySortKey> comparator(final CategorySort sort) {
+        return sort == CategorySort.NAME ? BY_NAME : BY_INSTANT;
+    }
+}
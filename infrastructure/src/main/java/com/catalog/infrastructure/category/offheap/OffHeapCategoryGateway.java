@@ -0,0 +1,506 @@
+package com.catalog.infrastructure.category.offheap;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.codec.CategoryCodec;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import com.catalog.infrastructure.category.index.CategoryCursor;
+import com.catalog.infrastructure.category.index.CategorySort;
+import com.catalog.infrastructure.category.index.CategoryTerms;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps every category as a {@link CategoryCodec} record in direct-buffer slabs, compacted once garbage
+ * outgrows live data. Old slabs are only freed by the garbage collector, so leave direct memory headroom.
+ * Sort orders and term postings live in a {@link CategoryBaseIndex}; only the writes since its last fold
+ * are indexed on heap, until they outgrow a share of it.
+ */
+public class OffHeapCategoryGateway implements CategoryGateway {
+
+    private static final int DEFAULT_SLAB_BYTES = 1 << 20;
+    private static final int SLAB_SHIFT = 32;
+    private static final int MIN_FOLD_CHANGES = 1024;
+    private static final int FOLD_RATIO = 8;
+    private static final int SELECTIVE_MATCH_RATIO = 8;
+
+    private final int slabBytes;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final CategoryAddressTable addresses = new CategoryAddressTable();
+    private final Map<CategorySort, TreeSet<CategorySortKey>> recent = new EnumMap<>(CategorySort.class);
+    private final TreeMap<String, Set<CategoryId>> recentPostings = new TreeMap<>();
+    // base positions whose category was written or deleted since the fold
+    private final BitSet shadowed = new BitSet();
+    private final CategoryChangeLog changeLog = new CategoryChangeLog(CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private CategoryBaseIndex base = CategoryBaseIndex.empty();
+    private int shadowedCount;
+    private long liveBytes;
+    private long garbageBytes;
+
+    public OffHeapCategoryGateway() {
+        this(DEFAULT_SLAB_BYTES);
+    }
+
+    public OffHeapCategoryGateway(final int slabBytes) {
+        if (slabBytes <= 0) {
+            throw new IllegalArgumentException("'slabBytes' must be positive");
+        }
+        this.slabBytes = slabBytes;
+        for (final var sort : CategorySort.values()) {
+            recent.put(sort, new TreeSet<>(CategorySortKey.comparator(sort)));
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return createAll(List.of(category)).getFirst();
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return write(categories, true);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return updateAll(List.of(category)).getFirst();
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return write(categories, false);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        lock.writeLock().lock();
+        try {
+            final var slot = addresses.slotOf(id);
+            if (slot >= 0) {
+                unindex(id, slot);
+                final var removed = addresses.remove(id);
+                changeLog.deleted(id, Instant.now());
+                liveBytes -= removed;
+                garbageBytes += removed;
+                foldIfOutgrown();
+                compactIfWasteful();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        lock.readLock().lock();
+        try {
+            final var slot = addresses.slotOf(id);
+            return slot < 0 ? Optional.empty() : Optional.of(decode(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        lock.readLock().lock();
+        try {
+            for (final var id : ids) {
+                final var slot = addresses.slotOf(id);
+                if (slot >= 0 && !found.containsKey(id)) {
+                    found.put(id, decode(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var sort = CategorySort.from(query.sort());
+        final var descending = CategorySort.isDescending(query.direction());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var after = query.hasCursor() ? CategorySortKey.of(sort, CategoryCursor.decode(query.cursor(), sort, descending).last()) : null;
+        final var offset = after != null ? 0 : (long) Math.max(query.page(), 0) * perPage;
+        final var hasTerms = query.terms() != null && !query.terms().isBlank();
+
+        final long total;
+        final List<Category> items = new ArrayList<>(Math.min(perPage, 1024));
+        final boolean hasMore;
+        lock.readLock().lock();
+        try {
+            final var matches = hasTerms ? search(query.terms()) : null;
+            total = matches == null ? sizeLocked() : matches.size();
+            // few matches: sort them instead of walking the whole order
+            final var keys = matches != null && total * SELECTIVE_MATCH_RATIO <= sizeLocked()
+                    ? sorted(matches, sort, descending, after)
+                    : walk(sort, descending, after, matches);
+            for (long skipped = 0; skipped < offset && keys.hasNext(); skipped++) {
+                keys.next();
+            }
+            while (items.size() < perPage && keys.hasNext()) {
+                items.add(decode(addresses.slotOf(keys.next().id())));
+            }
+            hasMore = keys.hasNext();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final var nextCursor = hasMore && !items.isEmpty()
+                ? CategoryCursor.of(sort, descending, items.getLast()).encode()
+                : null;
+        return new Pagination<>(query.page(), perPage, total, List.copyOf(items), nextCursor);
+    }
+
+    @Override
+    public long count(final CategorySearchQuery query) {
+        final var hasTerms = query.terms() != null && !query.terms().isBlank();
+        lock.readLock().lock();
+        try {
+            return hasTerms ? search(query.terms()).size() : sizeLocked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        lock.readLock().lock();
+        try {
+            return changeLog.since(after, limit, this::findAllById);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return slabs.stream().mapToLong(ByteBuffer::capacity).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // a create only writes new ids, an update only existing ones
+    private List<Category> write(final List<Category> categories, final boolean creating) {
+        lock.writeLock().lock();
+        try {
+            final var created = creating ? new HashSet<CategoryId>() : null;
+            for (final var category : categories) {
+                final var exists = addresses.slotOf(category.getId()) >= 0 || (creating && !created.add(category.getId()));
+                if (exists == creating) {
+                    throw DomainException.with(creating ? CategoryErrors.ALREADY_EXISTS : CategoryErrors.NOT_FOUND);
+                }
+            }
+            categories.forEach(this::store);
+            foldIfOutgrown();
+            compactIfWasteful();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return categories;
+    }
+
+    private long sizeLocked() {
+        return base.size() - shadowedCount + recent.get(CategorySort.NAME).size();
+    }
+
+    private Matches search(final String terms) {
+        final var queryTokens = CategoryTerms.tokenize(terms);
+        if (queryTokens.isEmpty()) {
+            return new Matches(new BitSet(), Set.of());
+        }
+        BitSet fromBase = null;
+        Set<CategoryId> fromRecent = null;
+        for (final var queryToken : queryTokens) {
+            final var bits = base.search(queryToken);
+            bits.andNot(shadowed);
+            final var ids = new HashSet<CategoryId>();
+            recentPostings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).values().forEach(ids::addAll);
+            if (fromBase == null) {
+                fromBase = bits;
+                fromRecent = ids;
+            } else {
+                fromBase.and(bits);
+                fromRecent.retainAll(ids);
+            }
+            if (fromBase.isEmpty() && fromRecent.isEmpty()) {
+                break;
+            }
+        }
+        return new Matches(fromBase, fromRecent);
+    }
+
+    private Iterator<CategorySortKey> sorted(
+            final Matches matches,
+            final CategorySort sort,
+            final boolean descending,
+            final CategorySortKey after
+    ) {
+        final var comparator = descending ? CategorySortKey.comparator(sort).reversed() : CategorySortKey.comparator(sort);
+        final var keys = new ArrayList<CategorySortKey>((int) matches.size());
+        for (int position = matches.base().nextSetBit(0); position >= 0; position = matches.base().nextSetBit(position + 1)) {
+            keys.add(base.keyAt(sort, position));
+        }
+        for (final var id : matches.recent()) {
+            keys.add(sortKeyAt(sort, addresses.slotOf(id)));
+        }
+        if (after != null) {
+            keys.removeIf(key -> comparator.compare(key, after) <= 0);
+        }
+        keys.sort(comparator);
+        return keys.iterator();
+    }
+
+    private Iterator<CategorySortKey> walk(
+            final CategorySort sort,
+            final boolean descending,
+            final CategorySortKey after,
+            final Matches matches
+    ) {
+        final var fromBase = new BaseWalk(sort, descending, after, matches == null ? null : matches.base());
+        NavigableSet<CategorySortKey> written = recent.get(sort);
+        if (after != null) {
+            written = descending ? written.headSet(after, false) : written.tailSet(after, false);
+        }
+        final var fromRecent = (descending ? written.descendingSet() : written).stream()
+                .filter(key -> matches == null || matches.recent().contains(key.id()))
+                .iterator();
+        final var comparator = descending ? CategorySortKey.comparator(sort).reversed() : CategorySortKey.comparator(sort);
+        return new MergingIterator(fromBase, fromRecent, comparator);
+    }
+
+    private void store(final Category category) {
+        final var existing = addresses.slotOf(category.getId());
+        if (existing >= 0) {
+            unindex(category.getId(), existing);
+        }
+        final var length = CategoryCodec.encodedSize(category);
+        final var address = append(length);
+        CategoryCodec.encode(category, slabs.get(slabOf(address)).slice(offsetOf(address), length));
+        final var previous = addresses.put(category.getId(), address, length);
+        index(category);
+        changeLog.upserted(category.getId(), category.getUpdatedAt());
+        liveBytes += length;
+        if (previous >= 0) {
+            liveBytes -= previous;
+            garbageBytes += previous;
+        }
+    }
+
+    private void index(final Category category) {
+        recent.forEach((sort, keys) -> keys.add(CategorySortKey.of(sort, category)));
+        for (final var token : CategoryTerms.tokensOf(category)) {
+            recentPostings.computeIfAbsent(token, key -> new HashSet<>()).add(category.getId());
+        }
+    }
+
+    // shadows a category still in the base, otherwise drops it from the recent writes
+    private void unindex(final CategoryId id, final int slot) {
+        final var position = base.positionOf(id);
+        if (position >= 0 && !shadowed.get(position)) {
+            shadowed.set(position);
+            shadowedCount++;
+            return;
+        }
+        final var stored = decode(slot);
+        recent.forEach((sort, keys) -> keys.remove(CategorySortKey.of(sort, stored)));
+        for (final var token : CategoryTerms.tokensOf(stored)) {
+            recentPostings.computeIfPresent(token, (key, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids);
+        }
+    }
+
+    private void foldIfOutgrown() {
+        final var changes = recent.get(CategorySort.NAME).size() + shadowedCount;
+        if (changes < Math.max(MIN_FOLD_CHANGES, base.size() / FOLD_RATIO)) {
+            return;
+        }
+        base = CategoryBaseIndex.fold(base, shadowed, recent, recentPostings, id -> decode(addresses.slotOf(id)));
+        recent.values().forEach(TreeSet::clear);
+        recentPostings.clear();
+        shadowed.clear();
+        shadowedCount = 0;
+    }
+
+    private long append(final int length) {
+        var slab = slabs.isEmpty() ? null : slabs.getLast();
+        if (slab == null || slab.remaining() < length) {
+            slab = ByteBuffer.allocateDirect(Math.max(slabBytes, length));
+            slabs.add(slab);
+        }
+        final var offset = slab.position();
+        slab.position(offset + length);
+        return ((long) (slabs.size() - 1) << SLAB_SHIFT) | offset;
+    }
+
+    private Category decode(final int slot) {
+        return CategoryCodec.decode(recordAt(slot));
+    }
+
+    private CategorySortKey sortKeyAt(final CategorySort sort, final int slot) {
+        final var record = recordAt(slot);
+        final var id = CategoryCodec.readId(record, 0);
+        return switch (sort) {
+            case NAME -> new CategorySortKey(CategoryCodec.readName(record), null, id);
+            case CREATED_AT -> new CategorySortKey(null, CategoryCodec.readCreatedAt(record), id);
+            case UPDATED_AT -> new CategorySortKey(null, CategoryCodec.readUpdatedAt(record), id);
+        };
+    }
+
+    private ByteBuffer recordAt(final int slot) {
+        final var address = addresses.addressAt(slot);
+        return slabs.get(slabOf(address)).slice(offsetOf(address), addresses.lengthAt(slot));
+    }
+
+    private void compactIfWasteful() {
+        if (garbageBytes < slabBytes || garbageBytes < liveBytes) {
+            return;
+        }
+        final var previous = new ArrayList<>(slabs);
+        slabs.clear();
+        for (int slot = 0; slot < addresses.capacity(); slot++) {
+            if (addresses.isOccupied(slot)) {
+                final var address = addresses.addressAt(slot);
+                final var length = addresses.lengthAt(slot);
+                final var moved = append(length);
+                slabs.get(slabOf(moved)).put(offsetOf(moved), previous.get(slabOf(address)), offsetOf(address), length);
+                addresses.moveTo(slot, moved);
+            }
+        }
+        garbageBytes = 0;
+    }
+
+    private static int slabOf(final long address) {
+        return (int) (address >>> SLAB_SHIFT);
+    }
+
+    private static int offsetOf(final long address) {
+        return (int) address;
+    }
+
+    // base positions and recent ids matching every query token; no id is in both
+    private record Matches(BitSet base, Set<CategoryId> recent) {
+
+        long size() {
+            return base.cardinality() + recent.size();
+        }
+    }
+
+    // the base in sort order from after on, skipping shadowed positions and those not matching
+    private final class BaseWalk implements Iterator<CategorySortKey> {
+        private final CategorySort sort;
+        private final int step;
+        private final BitSet matching;
+        private int rank;
+        private CategorySortKey next;
+
+        private BaseWalk(final CategorySort sort, final boolean descending, final CategorySortKey after, final BitSet matching) {
+            this.sort = sort;
+            this.step = descending ? -1 : 1;
+            this.matching = matching;
+            if (after == null) {
+                this.rank = descending ? base.size() - 1 : 0;
+            } else {
+                this.rank = descending ? base.lowerBound(sort, after) - 1 : base.upperBound(sort, after);
+            }
+            this.next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public CategorySortKey next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            final var current = next;
+            next = advance();
+            return current;
+        }
+
+        private CategorySortKey advance() {
+            while (rank >= 0 && rank < base.size()) {
+                final var position = base.positionAt(sort, rank);
+                rank += step;
+                if (!shadowed.get(position) && (matching == null || matching.get(position))) {
+                    return base.keyAt(sort, position);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class MergingIterator implements Iterator<CategorySortKey> {
+        private final Iterator<CategorySortKey> left;
+        private final Iterator<CategorySortKey> right;
+        private final Comparator<CategorySortKey> comparator;
+        private CategorySortKey nextLeft;
+        private CategorySortKey nextRight;
+
+        private MergingIterator(
+                final Iterator<CategorySortKey> left,
+                final Iterator<CategorySortKey> right,
+                final Comparator<CategorySortKey> comparator
+        ) {
+            this.left = left;
+            this.right = right;
+            this.comparator = comparator;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLeft != null || nextRight != null;
+        }
+
+        @Override
+        public CategorySortKey next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final CategorySortKey result;
+            if (nextRight == null || (nextLeft != null && comparator.compare(nextLeft, nextRight) < 0)) {
+                result = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                result = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            return result;
+        }
+    }
+}
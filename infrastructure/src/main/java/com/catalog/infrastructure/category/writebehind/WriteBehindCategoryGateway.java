@@ -0,0 +1,339 @@
+package com.catalog.infrastructure.category.writebehind;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChanges;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Acknowledges writes once queued and flushes them to the delegate in coalesced batches of up to
+ * {@code batchSize}, or after {@code maxDelay}. Lookups by id see queued writes; listings do not.
+ * Writes the delegate rejects go to {@code onFailure}.
+ */
+public class WriteBehindCategoryGateway implements CategoryGateway, AutoCloseable {
+
+    private final CategoryGateway delegate;
+    private final int batchSize;
+    private final int maxPending;
+    private final long maxDelayNanos;
+    private final BiConsumer<CategoryId, Throwable> onFailure;
+    private final Map<CategoryId, Write> pending = new LinkedHashMap<>();
+    private final Map<CategoryId, Write> inFlight = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingChanged = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Thread flusher;
+    private boolean closed;
+    private boolean flusherStopped;
+
+    public WriteBehindCategoryGateway(
+            final CategoryGateway delegate,
+            final int batchSize,
+            final int maxPending,
+            final Duration maxDelay,
+            final BiConsumer<CategoryId, Throwable> onFailure
+    ) {
+        if (batchSize <= 0 || maxPending < batchSize) {
+            throw new IllegalArgumentException("'batchSize' must be positive and not above 'maxPending'");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.onFailure = Objects.requireNonNull(onFailure);
+        this.flusher = Thread.ofVirtual().name("category-write-behind").start(this::run);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        enqueue(new Write(Kind.CREATE, category.getId(), Category.with(category), System.nanoTime()));
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        categories.forEach(this::create);
+        return categories;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        enqueue(new Write(Kind.UPDATE, category.getId(), Category.with(category), System.nanoTime()));
+        return category;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        enqueue(new Write(Kind.DELETE, id, null, System.nanoTime()));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        final Write write;
+        lock.lock();
+        try {
+            final var queued = pending.get(id);
+            write = queued != null ? queued : inFlight.get(id);
+        } finally {
+            lock.unlock();
+        }
+        if (write == null) {
+            return delegate.findById(id);
+        }
+        return write.kind() == Kind.DELETE ? Optional.empty() : Optional.of(Category.with(write.category()));
+    }
+
+    @Override
+    public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+        final var queued = new HashMap<CategoryId, Write>();
+        lock.lock();
+        try {
+            for (final var id : ids) {
+                final var pendingWrite = pending.get(id);
+                final var write = pendingWrite != null ? pendingWrite : inFlight.get(id);
+                if (write != null) {
+                    queued.put(id, write);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        final var stored = queued.size() == ids.size()
+                ? Map.<CategoryId, Category>of()
+                : delegate.findAllById(ids.stream().filter(id -> !queued.containsKey(id)).toList());
+        final var found = new LinkedHashMap<CategoryId, Category>(Math.max(16, ids.size() * 4 / 3 + 1));
+        for (final var id : ids) {
+            final var write = queued.get(id);
+            if (write == null) {
+                final var category = stored.get(id);
+                if (category != null) {
+                    found.put(id, category);
+                }
+            } else if (write.kind() != Kind.DELETE) {
+                found.put(id, Category.with(write.category()));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public Pagination<Category> findPage(final CategorySearchQuery query) {
+        return delegate.findPage(query);
+    }
+
+    @Override
+    public CategoryChanges changesSince(final CategoryWatermark after, final int limit) {
+        return delegate.changesSince(after, limit);
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        while (flushBatch() > 0) {
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pendingChanged.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void enqueue(final Write write) {
+        lock.lock();
+        try {
+            while (!closed && !flusherStopped && pending.size() >= maxPending && !pending.containsKey(write.id())) {
+                pendingChanged.signal();
+                notFull.awaitUninterruptibly();
+            }
+            if (closed) {
+                throw new IllegalStateException("write-behind gateway is closed");
+            }
+            if (flusherStopped) {
+                throw new IllegalStateException("write-behind flusher has stopped");
+            }
+            final var wasEmpty = pending.isEmpty();
+            final var previous = pending.get(write.id());
+            final var merged = previous == null ? write : previous.then(write);
+            if (merged == null) {
+                pending.remove(write.id());
+            } else {
+                pending.put(write.id(), merged);
+            }
+            if (wasEmpty || pending.size() >= batchSize) {
+                pendingChanged.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        try {
+            while (awaitBatch()) {
+                flushBatch();
+            }
+        } finally {
+            lock.lock();
+            try {
+                flusherStopped = !closed;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean awaitBatch() {
+        lock.lock();
+        try {
+            while (!closed) {
+                if (pending.isEmpty()) {
+                    pendingChanged.await();
+                    continue;
+                }
+                final var remaining = pending.values().iterator().next().enqueuedAt() + maxDelayNanos - System.nanoTime();
+                if (pending.size() >= batchSize || remaining <= 0) {
+                    return true;
+                }
+                pendingChanged.awaitNanos(remaining);
+            }
+            return false;
+        } catch (final InterruptedException ex) {
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int flushBatch() {
+        // one batch at a time keeps writes to an id in order
+        flushLock.lock();
+        try {
+            final var batch = new ArrayList<Write>(batchSize);
+            lock.lock();
+            try {
+                final var iterator = pending.values().iterator();
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    final var write = iterator.next();
+                    iterator.remove();
+                    inFlight.put(write.id(), write);
+                    batch.add(write);
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } finally {
+                lock.lock();
+                try {
+                    batch.forEach(write -> inFlight.remove(write.id(), write));
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(final List<Write> batch) {
+        final var creates = new ArrayList<Category>(batch.size());
+        for (final var write : batch) {
+            try {
+                switch (write.kind()) {
+                    case CREATE -> creates.add(write.category());
+                    case REPLACE -> {
+                        delegate.deleteById(write.id());
+                        creates.add(write.category());
+                    }
+                    case UPDATE -> delegate.update(write.category());
+                    case DELETE -> delegate.deleteById(write.id());
+                }
+            } catch (final Throwable ex) {
+                report(write.id(), ex);
+            }
+        }
+        if (creates.isEmpty()) {
+            return;
+        }
+        try {
+            delegate.createAll(creates);
+        } catch (final Throwable ex) {
+            creates.forEach(category -> report(category.getId(), ex));
+        }
+    }
+
+    private void report(final CategoryId id, final Throwable error) {
+        try {
+            onFailure.accept(id, error);
+        } catch (final Throwable ignored) {
+            // nothing left to tell
+        }
+    }
+
+    // REPLACE is a delete followed by a create of the same id
+    private enum Kind {
+        CREATE, REPLACE, UPDATE, DELETE
+    }
+
+    private record Write(Kind kind, CategoryId id, Category category, long enqueuedAt) {
+
+        // this write followed by next, or null when they cancel out
+        private Write then(final Write next) {
+            final var merged = switch (kind) {
+                case CREATE -> next.kind == Kind.DELETE ? null : Kind.CREATE;
+                case REPLACE -> next.kind == Kind.DELETE ? Kind.DELETE : Kind.REPLACE;
+                case DELETE -> next.kind == Kind.CREATE ? Kind.REPLACE : next.kind;
+                case UPDATE -> next.kind;
+            };
+            return merged == null ? null : new Write(merged, id, next.category, enqueuedAt);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.catalog.infrastructure.event;
+
+import com.catalog.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Drains a {@link DomainEventOutbox} on a virtual thread and hands batches to every subscriber; failures
+ * go to {@code onFailure}. {@link #close()} dispatches what is left and closes the outbox.
+ */
+public class DomainEventDispatcher implements AutoCloseable {
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final DomainEventOutbox outbox;
+    private final int batchSize;
+    private final List<DomainEventSubscriber> subscribers;
+    private final BiConsumer<List<DomainEvent>, Throwable> onFailure;
+    private final LongAdder dispatched = new LongAdder();
+    private final Thread dispatcher;
+    private volatile boolean closed;
+
+    public DomainEventDispatcher(
+            final DomainEventOutbox outbox,
+            final int batchSize,
+            final List<DomainEventSubscriber> subscribers,
+            final BiConsumer<List<DomainEvent>, Throwable> onFailure
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("'batchSize' must be positive");
+        }
+        this.outbox = Objects.requireNonNull(outbox);
+        this.batchSize = batchSize;
+        this.subscribers = List.copyOf(subscribers);
+        this.onFailure = Objects.requireNonNull(onFailure);
+        this.dispatcher = Thread.ofVirtual().name("domain-event-dispatcher").unstarted(this::run);
+        if (!outbox.claim(dispatcher)) {
+            throw new IllegalStateException("the outbox is already drained by another dispatcher");
+        }
+        dispatcher.start();
+    }
+
+    public long dispatchedCount() {
+        return dispatched.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<DomainEvent>(batchSize);
+        final var view = Collections.unmodifiableList(batch);
+        try {
+            while (true) {
+                if (outbox.drainTo(batch, batchSize) == 0) {
+                    if (closed && outbox.isEmpty()) {
+                        if (outbox.isClosed()) {
+                            return;
+                        }
+                        outbox.close();
+                        continue;
+                    }
+                    outbox.awaitEvents(closed ? 0 : IDLE_WAIT_NANOS);
+                    continue;
+                }
+                dispatch(view);
+                dispatched.add(batch.size());
+                batch.clear();
+            }
+        } finally {
+            outbox.close();
+        }
+    }
+
+    private void dispatch(final List<DomainEvent> batch) {
+        for (final var subscriber : subscribers) {
+            try {
+                subscriber.onEvents(batch);
+            } catch (final Throwable ex) {
+                report(batch, ex);
+            }
+        }
+    }
+
+    private void report(final List<DomainEvent> batch, final Throwable error) {
+        try {
+            onFailure.accept(List.copyOf(batch), error);
+        } catch (final Throwable ignored) {
+            // nothing left to tell
+        }
+    }
+}
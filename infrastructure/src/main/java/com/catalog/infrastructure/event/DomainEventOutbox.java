@@ -0,0 +1,159 @@
+package com.catalog.infrastructure.event;
+
+import com.catalog.domain.event.DomainEvent;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Events appended in the same critical section that stores their aggregate, drained by the single
+ * {@link DomainEventDispatcher} that claimed it. Appending never blocks; a full outbox is waited on with
+ * {@link #awaitCapacity(int)} outside the critical section until the dispatcher drains it. Both throw once
+ * the dispatcher has stopped.
+ */
+public final class DomainEventOutbox {
+
+    private static final int CLOSED = Integer.MIN_VALUE;
+
+    private final MpscRingBuffer<DomainEvent> events;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    // appends in progress, with the sign bit set once the consumer has stopped
+    private final AtomicInteger appenders = new AtomicInteger();
+    private final ReentrantLock roomLock = new ReentrantLock();
+    private final Condition room = roomLock.newCondition();
+    private final AtomicInteger waitingForRoom = new AtomicInteger();
+    private volatile Thread consumer;
+    private volatile boolean consumerWaiting;
+    private volatile Thread closer;
+
+    public DomainEventOutbox(final int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("'capacity' must be between 1 and 2^30");
+        }
+        this.events = new MpscRingBuffer<>(Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1);
+    }
+
+    public int capacity() {
+        return events.capacity();
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    // all or nothing
+    public boolean tryAppend(final List<DomainEvent> batch) {
+        if ((appenders.getAndIncrement() & CLOSED) != 0) {
+            leave();
+            throw stopped();
+        }
+        try {
+            if (!events.offer(batch)) {
+                return false;
+            }
+            if (!batch.isEmpty() && consumerWaiting) {
+                LockSupport.unpark(consumer);
+            }
+            return true;
+        } finally {
+            leave();
+        }
+    }
+
+    public void awaitCapacity(final int count) {
+        if (count > capacity()) {
+            throw new IllegalArgumentException("cannot append %d events to an outbox of %d".formatted(count, capacity()));
+        }
+        roomLock.lock();
+        // announced before checking, so a drain in between signals us
+        waitingForRoom.incrementAndGet();
+        try {
+            while (capacity() - events.size() < count) {
+                if (isClosed()) {
+                    throw stopped();
+                }
+                room.await();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitingForRoom.decrementAndGet();
+            roomLock.unlock();
+        }
+    }
+
+    boolean claim(final Thread thread) {
+        if (!claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        this.consumer = thread;
+        return true;
+    }
+
+    boolean isClosed() {
+        return (appenders.get() & CLOSED) != 0;
+    }
+
+    // returns once appends in progress are done, so the next drain is the last
+    void close() {
+        closer = Thread.currentThread();
+        appenders.getAndUpdate(count -> count | CLOSED);
+        // the last appender to leave unparks us
+        while ((appenders.get() & ~CLOSED) != 0) {
+            LockSupport.park(this);
+        }
+        signalRoom();
+    }
+
+    int drainTo(final List<DomainEvent> batch, final int max) {
+        final var drained = events.drainTo(batch, max);
+        if (drained > 0) {
+            // orders the advanced head before reading the waiters, who announce themselves before checking it
+            VarHandle.fullFence();
+            if (waitingForRoom.get() > 0) {
+                signalRoom();
+            }
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    void awaitEvents(final long timeoutNanos) {
+        consumerWaiting = true;
+        try {
+            // checked after announcing the wait, so an append in between unparks us
+            if (!events.hasPublished()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            consumerWaiting = false;
+        }
+    }
+
+    private void leave() {
+        if (appenders.decrementAndGet() == CLOSED) {
+            LockSupport.unpark(closer);
+        }
+    }
+
+    private void signalRoom() {
+        roomLock.lock();
+        try {
+            room.signalAll();
+        } finally {
+            roomLock.unlock();
+        }
+    }
+
+    private static IllegalStateException stopped() {
+        return new IllegalStateException("the outbox has no dispatcher draining it any more");
+    }
+}
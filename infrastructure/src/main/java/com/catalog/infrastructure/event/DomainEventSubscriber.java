@@ -0,0 +1,14 @@
+package com.catalog.infrastructure.event;
+
+import com.catalog.domain.event.DomainEvent;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface DomainEventSubscriber {
+
+    /**
+     * Receives a batch of events in the order they were persisted. The list is only valid during the call.
+     */
+    void onEvents(List<DomainEvent> events);
+}
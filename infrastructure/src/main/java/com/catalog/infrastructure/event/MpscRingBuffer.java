@@ -0,0 +1,85 @@
+package com.catalog.infrastructure.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer; a batch offered together is consumed
+ * contiguously.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // written by the consumer only, read by producers to see how much room there is
+    private final AtomicLong head = new AtomicLong();
+
+    MpscRingBuffer(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("'capacity' must be a positive power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+
+    boolean offer(final List<? extends E> items) {
+        final int count = items.size();
+        if (count > capacity()) {
+            throw new IllegalArgumentException("cannot offer %d items to a buffer of %d".formatted(count, capacity()));
+        }
+        if (count == 0) {
+            return true;
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed + count - head.get() > capacity()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + count));
+        for (int i = 0; i < count; i++) {
+            // a volatile store, so a consumer that parks after seeing an empty slot is always noticed
+            slots.set((int) (claimed + i) & mask, items.get(i));
+        }
+        return true;
+    }
+
+    int drainTo(final List<? super E> sink, final int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            final int slot = (int) position & mask;
+            final var item = slots.get(slot);
+            if (item == null) {
+                break;
+            }
+            slots.lazySet(slot, null);
+            sink.add(item);
+            position++;
+            drained++;
+        }
+        if (drained > 0) {
+            // released after the slots were cleared, so producers never reuse a slot still holding an item
+            head.lazySet(position);
+        }
+        return drained;
+    }
+
+    boolean hasPublished() {
+        return slots.get((int) head.get() & mask) != null;
+    }
+}
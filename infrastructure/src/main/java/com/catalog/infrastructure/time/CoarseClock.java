@@ -0,0 +1,98 @@
+package com.catalog.infrastructure.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock that caches the instant of {@code source}, refreshed every {@code resolution} by a daemon platform
+ * thread, so reading it is a volatile read. A virtual ticker would need a free carrier to wake up and lag
+ * exactly when the carriers are busy.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final Clock source;
+    private final ScheduledExecutorService ticker;
+    private volatile Instant now;
+
+    private CoarseClock(final Clock source, final Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("'resolution' must be positive");
+        }
+        this.source = Objects.requireNonNull(source);
+        this.now = source.instant();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("coarse-clock").factory());
+        final var nanos = resolution.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static CoarseClock start(final Duration resolution) {
+        return new CoarseClock(Clock.systemUTC(), resolution);
+    }
+
+    public static CoarseClock start(final Clock source, final Duration resolution) {
+        return new CoarseClock(source, resolution);
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public long millis() {
+        return now.toEpochMilli();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return source.getZone();
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        if (zone.equals(getZone())) {
+            return this;
+        }
+        final var coarse = this;
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return zone;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId other) {
+                return coarse.withZone(other);
+            }
+
+            @Override
+            public Instant instant() {
+                return coarse.instant();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        try {
+            ticker.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick() {
+        final var current = source.instant();
+        // never step back, even if the source does
+        if (current.isAfter(now)) {
+            now = current;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.application.category.update.DefaultUpdateCategoryUseCase;
+import com.catalog.application.category.update.UpdateCategoryCommand;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+public class ConcurrentCategoryGatewayTest {
+
+    @Test
+    public void givenAStaleCategory_whenCallsUpdate_shouldThrowAVersionConflict() {
+        final var gateway = new ConcurrentCategoryGateway();
+        final var created = gateway.create(Category.newCategory("Filmes", null, true));
+        final var first = gateway.findById(created.getId()).orElseThrow();
+        final var second = gateway.findById(created.getId()).orElseThrow();
+
+        final var updated = gateway.update(first.update("Series", null, true));
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.update(second.update("Animes", null, true))
+        );
+
+        Assertions.assertEquals(1, created.getVersion());
+        Assertions.assertEquals(2, updated.getVersion());
+        Assertions.assertEquals(CategoryErrors.VERSION_CONFLICT, actualException.getErrors().get(0));
+        Assertions.assertEquals("Series", gateway.findById(created.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenAnExistingId_whenCallsCreate_shouldThrowAlreadyExists() {
+        final var gateway = new ConcurrentCategoryGateway();
+        final var created = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.create(Category.with(created).update("Series", null, true))
+        );
+
+        Assertions.assertEquals(CategoryErrors.ALREADY_EXISTS, actualException.getErrors().get(0));
+        Assertions.assertEquals("Filmes", gateway.findById(created.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenWritesAndDeletes_whenCallsFindAllWithTerms_shouldFollowTheTermIndex() {
+        final var gateway = new ConcurrentCategoryGateway();
+        for (int i = 0; i < 40; i++) {
+            gateway.create(Category.newCategory("Categoria " + i, null, true));
+        }
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", "Filmes em episodios", true));
+        gateway.update(Category.with(series).update("Series", null, true));
+        gateway.create(Category.newCategory("Filmes Antigos", null, true));
+        gateway.deleteById(filmes.getId());
+
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "filme", "name", "asc"));
+        final var actualCategorias = gateway.findAll(new CategorySearchQuery(1, 15, "categoria", "name", "asc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(List.of("Filmes Antigos"), names(actualPage.items()));
+        Assertions.assertEquals(40, actualCategorias.total());
+        Assertions.assertEquals(15, actualCategorias.items().size());
+        Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 0, "series", "name", "asc")));
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenCallsUpdateUseCase_shouldReturnTheConflictAsNotification() {
+        final var conflicting = new ConcurrentCategoryGateway() {
+            @Override
+            public Category update(final Category category) {
+                // another writer gets in between the read and the write of the use case
+                final var current = findById(category.getId()).orElseThrow();
+                super.update(current.update("Series", null, true));
+                return super.update(category);
+            }
+        };
+        final var created = conflicting.create(Category.newCategory("Filmes", null, true));
+        final var useCase = new DefaultUpdateCategoryUseCase(conflicting);
+
+        final var actualOutput = useCase.execute(UpdateCategoryCommand.with(created.getId().getValue(), "Animes", null, true));
+
+        Assertions.assertTrue(actualOutput.isLeft());
+        Assertions.assertEquals(CategoryErrors.VERSION_CONFLICT, actualOutput.getLeft().firstError());
+        Assertions.assertEquals("Series", conflicting.findById(created.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenParallelWritersRetryingOnConflict_whenUpdatingTheSameCategory_shouldLoseNoUpdate() throws Exception {
+        final var gateway = new ConcurrentCategoryGateway();
+        final var created = gateway.create(Category.newCategory("0", null, true));
+        final var writers = 8;
+        final var writesPerWriter = 250;
+        final var start = new CountDownLatch(1);
+
+        try (final var executor = Executors.newFixedThreadPool(writers)) {
+            for (int i = 0; i < writers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < writesPerWriter; j++) {
+                        while (true) {
+                            final var current = gateway.findById(created.getId()).orElseThrow();
+                            final var next = Integer.parseInt(current.getName()) + 1;
+                            try {
+                                gateway.update(current.update(String.valueOf(next), null, true));
+                                break;
+                            } catch (final DomainException ex) {
+                                // somebody else won, read again and retry
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        final var actualCategory = gateway.findById(created.getId()).orElseThrow();
+        Assertions.assertEquals(String.valueOf(writers * writesPerWriter), actualCategory.getName());
+        Assertions.assertEquals(1 + writers * writesPerWriter, actualCategory.getVersion());
+        Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).items().size());
+    }
+
+    @Test
+    public void givenParallelWritersRenamingCategories_whenTheyFinish_shouldIndexOnlyTheLatestTerms() throws Exception {
+        final var gateway = new ConcurrentCategoryGateway();
+        final var writers = 8;
+        final var categoriesPerWriter = 50;
+        final var start = new CountDownLatch(1);
+
+        try (final var executor = Executors.newFixedThreadPool(writers)) {
+            for (int i = 0; i < writers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < categoriesPerWriter; j++) {
+                        final var created = gateway.create(Category.newCategory("Rascunho", null, true));
+                        final var renamed = gateway.update(created.update("Filmes", null, true));
+                        if (j % 2 == 0) {
+                            gateway.deleteById(renamed.getId());
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        final var expected = writers * categoriesPerWriter / 2;
+        Assertions.assertEquals(0, gateway.count(new CategorySearchQuery(0, 0, "rascunho", "name", "asc")));
+        Assertions.assertEquals(expected, gateway.count(new CategorySearchQuery(0, 0, "filmes", "name", "asc")));
+        Assertions.assertEquals(expected, gateway.findAll(new CategorySearchQuery(0, 1000, "fil", "name", "asc")).items().size());
+    }
+
+    @Test
+    public void givenWritesAndDeletes_whenCallsChangesSince_shouldServeTheLatestChangeOfEachCategory() throws Exception {
+        final var gateway = new ConcurrentCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var watermark = gateway.changesSince(null, 10).watermark();
+        gateway.update(filmes.update("Filmes Antigos", null, true));
+        gateway.deleteById(series.getId());
+        try (final var executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 25; j++) {
+                        gateway.create(Category.newCategory("Categoria", null, true));
+                    }
+                });
+            }
+        }
+
+        final var actual = gateway.changesSince(watermark, 2);
+        final var rest = gateway.changesSince(actual.watermark(), 1000);
+
+        Assertions.assertEquals("Filmes Antigos", actual.changes().get(0).category().getName());
+        Assertions.assertTrue(actual.changes().get(1).isDeleted());
+        Assertions.assertEquals(series.getId(), actual.changes().get(1).id());
+        Assertions.assertTrue(actual.hasMore());
+        Assertions.assertEquals(100, rest.changes().size());
+        Assertions.assertFalse(rest.hasMore());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithCursor_shouldWalkTheListingOnce() {
+        final var gateway = new ConcurrentCategoryGateway();
+        for (final var name : List.of("Series", "Documentarios", "Filmes", "Animes", "Kids")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+        final var kids = gateway.findAll(new CategorySearchQuery(0, 10, "kids", "name", "asc")).items().get(0);
+        gateway.update(kids.update("Bebes", null, true));
+
+        final var actualNames = new ArrayList<String>();
+        var page = gateway.findAll(new CategorySearchQuery(0, 2, null, "name", "desc"));
+        actualNames.addAll(names(page.items()));
+        while (page.nextCursor() != null) {
+            page = gateway.findAll(new CategorySearchQuery(0, 2, null, "name", "desc").withCursor(page.nextCursor()));
+            actualNames.addAll(names(page.items()));
+        }
+
+        Assertions.assertEquals(5, page.total());
+        Assertions.assertEquals(List.of("Series", "Filmes", "Documentarios", "Bebes", "Animes"), actualNames);
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindPage_shouldSkipTheTotal() {
+        final var gateway = new ConcurrentCategoryGateway();
+        for (final var name : List.of("Series", "Filmes", "Filmes Antigos")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+        final var query = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+
+        final var actualPage = gateway.findPage(query);
+
+        Assertions.assertEquals(CategoryGateway.UNKNOWN_TOTAL, actualPage.total());
+        Assertions.assertEquals(List.of("Filmes", "Filmes Antigos"), names(actualPage.items()));
+        Assertions.assertEquals(2, gateway.findAll(query).total());
+        Assertions.assertEquals(2, gateway.stream(query).count());
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
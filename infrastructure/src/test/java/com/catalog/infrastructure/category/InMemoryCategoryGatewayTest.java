@@ -0,0 +1,310 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryCategoryGatewayTest {
+
+    @Test
+    public void givenACreatedCategory_whenCallsFindById_shouldReturnACopy() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = gateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        final var actualCategory = gateway.findById(category.getId()).orElseThrow();
+
+        Assertions.assertNotSame(category, actualCategory);
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals(category.getCreatedAt(), actualCategory.getCreatedAt());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllSortedByName_shouldReturnPagedItems() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (final var name : List.of("Series", "Documentarios", "Filmes", "Animes", "Kids")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var firstPage = gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc"));
+        final var lastPage = gateway.findAll(new CategorySearchQuery(2, 2, "", "name", "asc"));
+        final var descending = gateway.findAll(new CategorySearchQuery(0, 1, "", "name", "desc"));
+
+        Assertions.assertEquals(5, firstPage.total());
+        Assertions.assertEquals(List.of("Animes", "Documentarios"), names(firstPage.items()));
+        Assertions.assertEquals(List.of("Series"), names(lastPage.items()));
+        Assertions.assertEquals(List.of("Series"), names(descending.items()));
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsFindAll_shouldReflectTheNewSortPosition() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Zumbis", null, true));
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Series", "Zumbis"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindAll_shouldNotReturnIt() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+
+        gateway.deleteById(filmes.getId());
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, null, "createdAt", "desc"));
+
+        Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(List.of("Series"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenACallerMutatingAReturnedCategory_whenCallsFindAll_shouldKeepStoredStateIntact() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.findById(filmes.getId()).orElseThrow().update("Alterado", null, false);
+        filmes.update("Outro", null, false);
+
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenCategoriesWithAccents_whenCallsFindAllWithTermsPrefix_shouldMatchIgnoringCaseAndAccents() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.newCategory("Documentários", "Histórias reais", true));
+        gateway.create(Category.newCategory("Ação", "Filmes de AÇÃO e aventura", true));
+        gateway.create(Category.newCategory("Comédia", null, true));
+
+        final var byName = gateway.findAll(new CategorySearchQuery(0, 10, "DOCUMENTA", "name", "asc"));
+        final var byDescription = gateway.findAll(new CategorySearchQuery(0, 10, "acao aven", "name", "asc"));
+        final var none = gateway.findAll(new CategorySearchQuery(0, 10, "terror", "name", "asc"));
+
+        Assertions.assertEquals(List.of("Documentários"), names(byName.items()));
+        Assertions.assertEquals(List.of("Ação"), names(byDescription.items()));
+        Assertions.assertEquals(0, none.total());
+    }
+
+    @Test
+    public void givenAnUpdatedAndADeletedCategory_whenCallsFindAllWithTerms_shouldReflectTheTermIndexChanges() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", "Filmes em capitulos", true));
+
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Curtas", null, true));
+        Assertions.assertEquals(List.of("Series"), names(gateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc")).items()));
+
+        gateway.deleteById(series.getId());
+        Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc")).total());
+        Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "curt", "name", "asc")).total());
+    }
+
+    @Test
+    public void givenManyMatchingCategories_whenCallsFindAllWithTerms_shouldPageInSortOrder() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 20; i++) {
+            gateway.create(Category.newCategory("Filme %02d".formatted(i), null, true));
+        }
+        gateway.create(Category.newCategory("Series", null, true));
+
+        final var actualPage = gateway.findAll(new CategorySearchQuery(1, 3, "filme", "name", "desc"));
+
+        Assertions.assertEquals(20, actualPage.total());
+        Assertions.assertEquals(List.of("Filme 16", "Filme 15", "Filme 14"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenACursor_whenCallsFindAll_shouldWalkEveryCategoryOnceEvenWithConcurrentInserts() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 10; i++) {
+            gateway.create(Category.newCategory("Categoria %02d".formatted(i), null, true));
+        }
+
+        final var visited = new ArrayList<String>();
+        var query = new CategorySearchQuery(0, 3, null, "name", "asc");
+        var page = gateway.findAll(query);
+        visited.addAll(names(page.items()));
+        gateway.create(Category.newCategory("Categoria 00a", null, true));
+        while (page.hasNext()) {
+            page = gateway.findAll(query.withCursor(page.nextCursor()));
+            visited.addAll(names(page.items()));
+        }
+
+        Assertions.assertEquals(10, visited.size());
+        Assertions.assertEquals("Categoria 00", visited.getFirst());
+        Assertions.assertEquals("Categoria 09", visited.getLast());
+        Assertions.assertEquals(11, page.total());
+    }
+
+    @Test
+    public void givenACursorAndTerms_whenCallsFindAllDescending_shouldReturnTheNextMatchingPage() {
+        final var gateway = new InMemoryCategoryGateway();
+        for (int i = 0; i < 6; i++) {
+            gateway.create(Category.newCategory("Filme %d".formatted(i), null, true));
+            gateway.create(Category.newCategory("Serie %d".formatted(i), null, true));
+        }
+
+        final var query = new CategorySearchQuery(0, 4, "filme", "name", "desc");
+        final var firstPage = gateway.findAll(query);
+        final var secondPage = gateway.findAll(query.withCursor(firstPage.nextCursor()));
+
+        Assertions.assertEquals(List.of("Filme 5", "Filme 4", "Filme 3", "Filme 2"), names(firstPage.items()));
+        Assertions.assertEquals(List.of("Filme 1", "Filme 0"), names(secondPage.items()));
+        Assertions.assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+        final var cursor = gateway.findAll(new CategorySearchQuery(0, 1, null, "name", "asc")).nextCursor();
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> gateway.findAll(new CategorySearchQuery(0, 1, null, "createdAt", "asc", cursor)));
+        final var invalidException = Assertions.assertThrows(DomainException.class,
+                () -> gateway.findAll(new CategorySearchQuery(0, 1, null, "name", "asc", "###")));
+
+        Assertions.assertEquals("'cursor' does not match the requested sort", actualException.getMessage());
+        Assertions.assertEquals("'cursor' is invalid", invalidException.getMessage());
+    }
+
+    @Test
+    public void givenABatchOfCategories_whenCallsCreateAll_shouldIndexEveryOne() {
+        final var gateway = new InMemoryCategoryGateway();
+
+        final var created = gateway.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true)
+        ));
+        final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, "ser", "name", "asc"));
+
+        Assertions.assertEquals(2, created.size());
+        Assertions.assertTrue(gateway.findById(created.getFirst().getId()).isPresent());
+        Assertions.assertEquals(List.of("Series"), names(actualPage.items()));
+    }
+
+    @Test
+    public void givenMoreCategoriesThanAPage_whenCallsStream_shouldYieldEveryCategoryInSortOrder() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var expectedNames = new ArrayList<String>();
+        for (int i = 0; i < 250; i++) {
+            final var name = "Categoria %03d".formatted(i);
+            expectedNames.add(name);
+            gateway.create(Category.newCategory(name, null, true));
+        }
+        gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualNames = gateway.stream(new CategorySearchQuery(0, 20, "categ", "name", "asc"))
+                .map(Category::getName)
+                .toList();
+
+        Assertions.assertEquals(expectedNames, actualNames);
+        Assertions.assertEquals(250, gateway.count(new CategorySearchQuery(0, 20, "categ", "name", "asc")));
+        Assertions.assertEquals(251, gateway.count(new CategorySearchQuery(0, 20, null, "name", "asc")));
+    }
+
+    @Test
+    public void givenFewMatchesAmongManyCategories_whenCallsStreamWithTerms_shouldYieldThemInSortOrder() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var expectedNames = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            gateway.create(Category.newCategory("Categoria %03d".formatted(i), null, true));
+            if (i % 10 == 7) {
+                final var name = "Filme %03d".formatted(i);
+                expectedNames.addFirst(name);
+                gateway.create(Category.newCategory(name, null, true));
+            }
+        }
+
+        final var actualNames = gateway.stream(new CategorySearchQuery(0, 7, "filme", "name", "desc"))
+                .map(Category::getName)
+                .toList();
+        final var actualPage = gateway.findAll(new CategorySearchQuery(2, 7, "filme", "name", "desc"));
+
+        Assertions.assertEquals(expectedNames, actualNames);
+        Assertions.assertEquals(expectedNames.subList(14, 21), names(actualPage.items()));
+        Assertions.assertEquals(30, actualPage.total());
+    }
+
+    @Test
+    public void givenWritesAfterAWatermark_whenCallsChangesSince_shouldReturnOnlyTheLatestChangeOfEachCategory() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var firstSync = gateway.changesSince(null, 10);
+
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Documentarios", null, true));
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().deactivate());
+        gateway.deleteById(series.getId());
+        gateway.create(Category.newCategory("Animes", null, true));
+        final var firstPage = gateway.changesSince(firstSync.watermark(), 2);
+        final var secondPage = gateway.changesSince(firstPage.watermark(), 2);
+        final var upToDate = gateway.changesSince(secondPage.watermark(), 2);
+
+        Assertions.assertEquals(2, firstSync.changes().size());
+        Assertions.assertFalse(firstSync.hasMore());
+        Assertions.assertTrue(firstPage.hasMore());
+        Assertions.assertEquals(filmes.getId(), firstPage.changes().get(0).id());
+        Assertions.assertTrue(firstPage.changes().get(0).isTombstone());
+        Assertions.assertTrue(firstPage.changes().get(1).isDeleted());
+        Assertions.assertEquals(List.of("Animes"), names(secondPage.changes().stream().map(CategoryChange::category).toList()));
+        Assertions.assertFalse(secondPage.hasMore());
+        Assertions.assertTrue(upToDate.changes().isEmpty());
+        Assertions.assertEquals(secondPage.watermark(), upToDate.watermark());
+    }
+
+    @Test
+    public void givenATombstoneOlderThanTheRetention_whenCallsChangesSinceBeforeIt_shouldRejectTheWatermark() {
+        final var gateway = new InMemoryCategoryGateway(null, Duration.ZERO);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var beforeDeletes = gateway.changesSince(null, 10).watermark();
+        gateway.deleteById(filmes.getId());
+        gateway.deleteById(series.getId());
+
+        final var expired = Assertions.assertThrows(DomainException.class, () -> gateway.changesSince(beforeDeletes, 10));
+        final var invalidLimit = Assertions.assertThrows(DomainException.class, () -> gateway.changesSince(null, 0));
+        final var fromScratch = gateway.changesSince(null, 10);
+
+        Assertions.assertEquals(CategoryErrors.WATERMARK_EXPIRED, expired.getErrors().getFirst());
+        Assertions.assertEquals(CategoryErrors.LIMIT_INVALID, invalidLimit.getErrors().getFirst());
+        Assertions.assertEquals(1, fromScratch.changes().size());
+        Assertions.assertEquals(series.getId(), fromScratch.changes().getFirst().id());
+    }
+
+    @Test
+    public void givenAnExistingOrMissingId_whenCallsCreateOrUpdate_shouldRejectTheWrite() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = Category.newCategory("Series", null, true);
+
+        final var actualCreate = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.createAll(List.of(series, Category.with(filmes).update("Animes", null, true)))
+        );
+        final var actualUpdate = Assertions.assertThrows(DomainException.class, () -> gateway.update(series));
+
+        Assertions.assertEquals(CategoryErrors.ALREADY_EXISTS, actualCreate.getErrors().get(0));
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualUpdate.getErrors().get(0));
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
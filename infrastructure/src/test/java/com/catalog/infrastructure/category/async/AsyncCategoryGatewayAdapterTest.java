@@ -0,0 +1,63 @@
+package com.catalog.infrastructure.category.async;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+public class AsyncCategoryGatewayAdapterTest {
+
+    @Test
+    public void givenABlockingGateway_whenCallsThroughTheAsyncAdapter_shouldCompleteOnAVirtualThread() {
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var gateway = new AsyncCategoryGatewayAdapter(new InMemoryCategoryGateway(), executor);
+            final var filmes = Category.newCategory("Filmes", null, true);
+
+            final var actual = gateway.create(filmes)
+                    .thenCompose(created -> gateway.findById(created.getId()))
+                    .toCompletableFuture()
+                    .join();
+
+            Assertions.assertEquals("Filmes", actual.orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenAFailingCall_whenCallsThroughTheAsyncAdapter_shouldCompleteExceptionally() {
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var gateway = new AsyncCategoryGatewayAdapter(new InMemoryCategoryGateway(), executor);
+            final var query = new CategorySearchQuery(0, 10, "", "name", "asc").withCursor("not a cursor");
+
+            final var actual = Assertions.assertThrows(
+                    CompletionException.class,
+                    () -> gateway.findAll(query).toCompletableFuture().join()
+            );
+
+            Assertions.assertInstanceOf(DomainException.class, actual.getCause());
+        }
+    }
+
+    @Test
+    public void givenAnAsyncGateway_whenCallsThroughTheBlockingAdapter_shouldRethrowTheOriginalException() {
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var gateway = new BlockingCategoryGatewayAdapter(
+                    new AsyncCategoryGatewayAdapter(new InMemoryCategoryGateway(), executor)
+            );
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            final var query = new CategorySearchQuery(0, 10, "", "name", "asc").withCursor("not a cursor");
+
+            final var actual = Assertions.assertThrows(DomainException.class, () -> gateway.findAll(query));
+
+            Assertions.assertEquals("'cursor' is invalid", actual.getErrors().getFirst().message());
+            Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+            gateway.deleteById(filmes.getId());
+            Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+            Assertions.assertTrue(gateway.changesSince(null, 10).changes().getFirst().isDeleted());
+        }
+    }
+}
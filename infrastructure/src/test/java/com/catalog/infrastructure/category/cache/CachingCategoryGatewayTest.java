@@ -0,0 +1,161 @@
+package com.catalog.infrastructure.category.cache;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CachingCategoryGatewayTest {
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdTwice_shouldHitTheCacheOnTheSecondCall() {
+        final var gateway = new CachingCategoryGateway(new InMemoryCategoryGateway(), 10, Duration.ofMinutes(1));
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        final var first = gateway.findById(filmes.getId()).orElseThrow();
+        first.update("Alterado", null, false);
+        final var second = gateway.findById(filmes.getId()).orElseThrow();
+
+        Assertions.assertEquals("Filmes", second.getName());
+        Assertions.assertEquals(new CacheStats(1, 1, 0, 1), gateway.stats());
+    }
+
+    @Test
+    public void givenSomeCachedCategories_whenCallsFindAllById_shouldLoadOnlyTheMissesInOneCall() {
+        final var delegate = new InMemoryCategoryGateway() {
+            private final List<Integer> requestedSizes = new ArrayList<>();
+
+            @Override
+            public Map<CategoryId, Category> findAllById(final Collection<CategoryId> ids) {
+                requestedSizes.add(ids.size());
+                return super.findAllById(ids);
+            }
+        };
+        final var gateway = new CachingCategoryGateway(delegate, 10, Duration.ofMinutes(1));
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var animes = gateway.create(Category.newCategory("Animes", null, true));
+        gateway.findById(filmes.getId());
+
+        final var ids = List.of(series.getId(), CategoryId.unique(), filmes.getId(), animes.getId());
+        final var first = gateway.findAllById(ids);
+        final var second = gateway.findAllById(ids);
+
+        Assertions.assertEquals(List.of(series.getId(), filmes.getId(), animes.getId()), List.copyOf(first.keySet()));
+        Assertions.assertEquals(List.copyOf(first.keySet()), List.copyOf(second.keySet()));
+        Assertions.assertEquals(List.of(3, 1), delegate.requestedSizes);
+        Assertions.assertEquals(new CacheStats(4, 5, 0, 3), gateway.stats());
+    }
+
+    @Test
+    public void givenAnUpdateThroughTheDecorator_whenCallsFindById_shouldReturnTheNewState() {
+        final var gateway = new CachingCategoryGateway(new InMemoryCategoryGateway(), 10, Duration.ofMinutes(1));
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findById(filmes.getId());
+
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Series", null, true));
+        final var afterUpdate = gateway.findById(filmes.getId()).orElseThrow();
+        gateway.deleteById(filmes.getId());
+
+        Assertions.assertEquals("Series", afterUpdate.getName());
+        Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallsUpdateAll_shouldWriteOnceAndReturnTheNewStates() {
+        final var delegate = new InMemoryCategoryGateway() {
+            private int batches;
+
+            @Override
+            public List<Category> updateAll(final List<Category> categories) {
+                batches++;
+                return super.updateAll(categories);
+            }
+        };
+        final var gateway = new CachingCategoryGateway(delegate, 10, Duration.ofMinutes(1));
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        gateway.findAllById(List.of(filmes.getId(), series.getId()));
+
+        gateway.updateAll(List.of(
+                gateway.findById(filmes.getId()).orElseThrow().update("Curtas", null, true),
+                gateway.findById(series.getId()).orElseThrow().update("Novelas", null, true)
+        ));
+
+        Assertions.assertEquals(1, delegate.batches);
+        Assertions.assertEquals("Curtas", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertEquals("Novelas", gateway.findById(series.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenMoreCategoriesThanTheMaximumSize_whenCallsFindById_shouldEvictTheUnreferencedOnes() {
+        final var gateway = new CachingCategoryGateway(new InMemoryCategoryGateway(), 2, Duration.ofMinutes(1));
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var animes = gateway.create(Category.newCategory("Animes", null, true));
+
+        gateway.findById(filmes.getId());
+        gateway.findById(series.getId());
+        gateway.findById(filmes.getId());
+        gateway.findById(animes.getId());
+        gateway.findById(filmes.getId());
+        gateway.findById(series.getId());
+
+        Assertions.assertEquals(new CacheStats(2, 4, 2, 2), gateway.stats());
+    }
+
+    @Test
+    public void givenParallelReaders_whenCallsFindById_shouldStayWithinTheMaximumSize() throws Exception {
+        final var delegate = new InMemoryCategoryGateway();
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = 0; i < 64; i++) {
+            ids.add(delegate.create(Category.newCategory("Categoria " + i, null, true)).getId());
+        }
+        final var gateway = new CachingCategoryGateway(delegate, 16, Duration.ofMinutes(1));
+
+        final var readers = new ArrayList<Future<?>>();
+        try (final var executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                final var offset = t;
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        final var id = ids.get((i * 7 + offset) % (i % 3 == 0 ? ids.size() : 8));
+                        Assertions.assertEquals(id, gateway.findById(id).orElseThrow().getId());
+                    }
+                }));
+            }
+        }
+        for (final var reader : readers) {
+            reader.get();
+        }
+
+        final var stats = gateway.stats();
+        Assertions.assertEquals(8_000, stats.hits() + stats.misses());
+        Assertions.assertTrue(stats.size() <= 16);
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallsFindById_shouldReloadFromTheDelegate() {
+        final var clock = new AtomicLong();
+        final var gateway = new CachingCategoryGateway(new InMemoryCategoryGateway(), 10, Duration.ofSeconds(5), clock::get);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        gateway.findById(filmes.getId());
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        gateway.findById(filmes.getId());
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        gateway.findById(filmes.getId());
+
+        Assertions.assertEquals(new CacheStats(1, 2, 0, 1), gateway.stats());
+    }
+}
@@ -0,0 +1,160 @@
+package com.catalog.infrastructure.category.cache;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+public class QueryCachingCategoryGatewayTest {
+
+    @Test
+    public void givenARepeatedQuery_whenCallsFindAll_shouldServeItFromTheCache() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var query = new CategorySearchQuery(0, 10, null, "name", "asc");
+
+        gateway.findAll(query).items().getFirst().update("Alterado", null, true);
+        final var actualPage = gateway.findAll(query);
+
+        Assertions.assertEquals(List.of("Filmes"), names(actualPage.items()));
+        Assertions.assertSame(actualPage, gateway.findAll(query));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> actualPage.items().clear());
+        Assertions.assertEquals(new CacheStats(2, 1, 0, 1), gateway.stats());
+    }
+
+    @Test
+    public void givenAWrite_whenCallsFindAllWithoutTerms_shouldReloadTheListing() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var query = new CategorySearchQuery(0, 10, null, "name", "asc");
+
+        gateway.findAll(query);
+        gateway.create(Category.newCategory("Series", null, true));
+        final var actualPage = gateway.findAll(query);
+
+        Assertions.assertEquals(List.of("Filmes", "Series"), names(actualPage.items()));
+        Assertions.assertEquals(2, gateway.stats().misses());
+    }
+
+    @Test
+    public void givenAWriteNotMatchingTheTerms_whenCallsFindAllWithTerms_shouldKeepTheCachedPage() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var byFilmes = new CategorySearchQuery(0, 10, "film", "name", "asc");
+
+        gateway.findAll(byFilmes);
+        gateway.update(gateway.findById(series.getId()).orElseThrow().update("Series e novelas", null, true));
+        gateway.findAll(byFilmes);
+        Assertions.assertEquals(new CacheStats(1, 1, 0, 1), gateway.stats());
+
+        gateway.update(gateway.findById(filmes.getId()).orElseThrow().update("Curtas", null, true));
+        final var afterRename = gateway.findAll(byFilmes);
+        Assertions.assertEquals(0, afterRename.total());
+
+        gateway.update(gateway.findById(series.getId()).orElseThrow().update("Filmes seriados", null, true));
+        final var afterMatch = gateway.findAll(byFilmes);
+        Assertions.assertEquals(List.of("Filmes seriados"), names(afterMatch.items()));
+        Assertions.assertEquals(new CacheStats(1, 3, 0, 1), gateway.stats());
+    }
+
+    @Test
+    public void givenADeletedMatchingCategory_whenCallsFindAllWithTerms_shouldReloadThePage() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var byFilmes = new CategorySearchQuery(0, 10, "FILMES", "name", "asc");
+
+        gateway.findAll(byFilmes);
+        gateway.deleteById(filmes.getId());
+
+        Assertions.assertEquals(0, gateway.findAll(byFilmes).total());
+    }
+
+    @Test
+    public void givenABatchMatchingOneTermSet_whenCallsCreateAll_shouldReloadOnlyThatOne() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Series", null, true));
+        final var byFilmes = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        final var bySeries = new CategorySearchQuery(0, 10, "series", "name", "asc");
+        gateway.findAll(byFilmes);
+        gateway.findAll(bySeries);
+
+        gateway.createAll(List.of(Category.newCategory("Filmes Antigos", null, true), Category.newCategory("Animes", null, true)));
+
+        Assertions.assertEquals(2, gateway.findAll(byFilmes).total());
+        Assertions.assertEquals(1, gateway.findAll(bySeries).total());
+        Assertions.assertEquals(new CacheStats(1, 3, 0, 2), gateway.stats());
+    }
+
+    @Test
+    public void givenABatchMatchingOneTermSet_whenCallsUpdateAll_shouldReloadOnlyThatOne() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 10);
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var animes = gateway.create(Category.newCategory("Animes", null, true));
+        final var byFilmes = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        final var bySeries = new CategorySearchQuery(0, 10, "series", "name", "asc");
+        gateway.findAll(byFilmes);
+        gateway.findAll(bySeries);
+
+        gateway.updateAll(List.of(
+                gateway.findById(series.getId()).orElseThrow().update("Novelas", null, true),
+                gateway.findById(animes.getId()).orElseThrow().update("Desenhos", null, true)
+        ));
+
+        Assertions.assertEquals(1, gateway.findAll(byFilmes).total());
+        Assertions.assertEquals(0, gateway.findAll(bySeries).total());
+        Assertions.assertEquals(new CacheStats(1, 3, 0, 2), gateway.stats());
+    }
+
+    @Test
+    public void givenCachedTermsPages_whenCallsDeleteById_shouldReloadOnlyTheMatchingOnes() {
+        final var delegate = new InMemoryCategoryGateway() {
+            private int reads;
+
+            @Override
+            public Optional<Category> findById(final CategoryId id) {
+                reads++;
+                return super.findById(id);
+            }
+        };
+        final var gateway = new QueryCachingCategoryGateway(delegate, 10);
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var byFilmes = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.findAll(byFilmes);
+
+        gateway.deleteById(series.getId());
+
+        Assertions.assertEquals(1, delegate.reads);
+        Assertions.assertEquals(1, gateway.findAll(byFilmes).total());
+        Assertions.assertEquals(new CacheStats(1, 1, 0, 1), gateway.stats());
+    }
+
+    @Test
+    public void givenMoreQueriesThanTheMaximumSize_whenCallsFindAll_shouldEvictTheUnreferencedOnes() {
+        final var gateway = new QueryCachingCategoryGateway(new InMemoryCategoryGateway(), 2);
+        gateway.create(Category.newCategory("Filmes", null, true));
+        final var first = new CategorySearchQuery(0, 10, null, "name", "asc");
+        final var second = new CategorySearchQuery(0, 10, null, "name", "desc");
+        final var third = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+        gateway.findAll(first);
+        gateway.findAll(second);
+        gateway.findAll(first);
+
+        gateway.findAll(third);
+        gateway.findAll(first);
+
+        Assertions.assertEquals(new CacheStats(2, 3, 1, 2), gateway.stats());
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
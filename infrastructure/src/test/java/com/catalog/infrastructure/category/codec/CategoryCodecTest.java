@@ -0,0 +1,119 @@
+package com.catalog.infrastructure.category.codec;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+public class CategoryCodecTest {
+
+    @Test
+    public void givenACategory_whenEncodedAndDecoded_shouldKeepEveryField() {
+        final var createdAt = Instant.parse("2024-03-01T10:15:30.123456789Z");
+        final var category = Category.with(
+                CategoryId.unique(),
+                "Séries e Filmes 🎬",
+                "A categoria mais assistida",
+                false,
+                createdAt,
+                createdAt.plusSeconds(60),
+                createdAt.plusSeconds(120),
+                300
+        );
+
+        final var bytes = CategoryCodec.encode(category);
+        final var actual = CategoryCodec.decode(ByteBuffer.wrap(bytes));
+
+        Assertions.assertEquals(CategoryCodec.encodedSize(category), bytes.length);
+        assertSameCategory(category, actual);
+    }
+
+    @Test
+    public void givenNullFieldsAndMicrosecondInstants_whenEncoded_shouldOnlySpendBytesOnWhatIsPresent() {
+        final var createdAt = Instant.parse("2024-03-01T10:15:30.123456Z");
+        final var category = Category.with(CategoryId.unique(), "Filmes", null, true, createdAt, createdAt.plusMillis(5), null);
+
+        final var bytes = CategoryCodec.encode(category);
+        final var actual = CategoryCodec.decode(ByteBuffer.wrap(bytes));
+
+        // encoding version, flags, id, aggregate version, length-prefixed name, createdAt as an 8-byte varint,
+        // updatedAt as a 2-byte delta
+        Assertions.assertEquals(2 + 16 + 1 + 7 + 8 + 2, bytes.length);
+        assertSameCategory(category, actual);
+    }
+
+    @Test
+    public void givenAnEncodedCategory_whenReadsASortField_shouldSkipTheRestOfTheRecord() {
+        final var createdAt = Instant.parse("2024-03-01T10:15:30.123456789Z");
+        final var category = Category.with(
+                CategoryId.unique(), "Séries", "A categoria mais assistida", true, createdAt, createdAt.plusSeconds(60), null, 3
+        );
+        final var withoutFields = Category.with(CategoryId.unique(), null, null, true, null, createdAt, null);
+        final var bytes = CategoryCodec.encode(category);
+        final var emptyBytes = CategoryCodec.encode(withoutFields);
+
+        Assertions.assertEquals("Séries", CategoryCodec.readName(ByteBuffer.wrap(bytes)));
+        Assertions.assertEquals(createdAt, CategoryCodec.readCreatedAt(ByteBuffer.wrap(bytes)));
+        Assertions.assertEquals(createdAt.plusSeconds(60), CategoryCodec.readUpdatedAt(ByteBuffer.wrap(bytes)));
+        Assertions.assertNull(CategoryCodec.readName(ByteBuffer.wrap(emptyBytes)));
+        Assertions.assertNull(CategoryCodec.readCreatedAt(ByteBuffer.wrap(emptyBytes)));
+        Assertions.assertEquals(createdAt, CategoryCodec.readUpdatedAt(ByteBuffer.wrap(emptyBytes)));
+    }
+
+    @Test
+    public void givenADirectBufferWithSeveralCategories_whenDecoded_shouldReadThemInPlaceOneAfterAnother() {
+        final var first = Category.newCategory("Filmes", "Longas", true);
+        final var second = Category.newCategory("Series", null, false);
+        final var buffer = ByteBuffer.allocateDirect(CategoryCodec.encodedSize(first) + CategoryCodec.encodedSize(second));
+        CategoryCodec.encode(first, buffer);
+        CategoryCodec.encode(second, buffer);
+        buffer.flip();
+
+        Assertions.assertEquals(second.getId(), CategoryCodec.readId(buffer, CategoryCodec.encodedSize(first)));
+        assertSameCategory(first, CategoryCodec.decode(buffer));
+        assertSameCategory(second, CategoryCodec.decode(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void givenAnUnknownVersion_whenDecoded_shouldThrowIllegalArgumentException() {
+        final var bytes = CategoryCodec.encode(Category.newCategory("Filmes", null, true));
+        bytes[0] = 99;
+
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> CategoryCodec.decode(ByteBuffer.wrap(bytes))
+        );
+
+        Assertions.assertEquals("unsupported category encoding version 99", actualException.getMessage());
+    }
+
+    @Test
+    public void givenAVersionOneEncoding_whenDecoded_shouldReadItAsVersionZero() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var current = CategoryCodec.encode(category);
+        // version 1 is version 2 without the aggregate version varint after the id
+        final var legacy = new byte[current.length - 1];
+        System.arraycopy(current, 0, legacy, 0, 18);
+        System.arraycopy(current, 19, legacy, 18, current.length - 19);
+        legacy[0] = 1;
+
+        final var actual = CategoryCodec.decode(ByteBuffer.wrap(legacy));
+
+        assertSameCategory(category, actual);
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        Assertions.assertEquals(expected.getId(), actual.getId());
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+        Assertions.assertEquals(expected.isActive(), actual.isActive());
+        Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        Assertions.assertEquals(expected.getVersion(), actual.getVersion());
+    }
+}
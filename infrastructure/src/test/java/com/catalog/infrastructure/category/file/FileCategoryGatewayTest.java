@@ -0,0 +1,262 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryChange;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.category.CategoryWatermark;
+import com.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class FileCategoryGatewayTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenWrittenCategories_whenReopened_shouldReplayTheLatestState() throws IOException {
+        final var path = directory.resolve("categories.log");
+        final Category filmes;
+        final Category series;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            filmes = gateway.create(Category.newCategory("Film", "A categoria mais assistida", true));
+            series = gateway.create(Category.newCategory("Series", null, true));
+            gateway.update(Category.with(filmes).update("Filmes", null, false));
+            gateway.deleteById(series.getId());
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            final var actual = gateway.findById(filmes.getId()).orElseThrow();
+
+            Assertions.assertEquals("Filmes", actual.getName());
+            Assertions.assertNull(actual.getDescription());
+            Assertions.assertFalse(actual.isActive());
+            Assertions.assertEquals(filmes.getCreatedAt(), actual.getCreatedAt());
+            Assertions.assertNotNull(actual.getDeletedAt());
+            Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+            Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        }
+    }
+
+    @Test
+    public void givenATornRecordAtTheTail_whenReopened_shouldTruncateItAndKeepTheRest() throws IOException {
+        final var path = directory.resolve("categories.log");
+        final Category filmes;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        }
+        final var intactSize = Files.size(path);
+        Files.write(path, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+            Assertions.assertEquals(intactSize, Files.size(path));
+
+            gateway.create(Category.newCategory("Series", null, true));
+        }
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertEquals(2, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        }
+    }
+
+    @Test
+    public void givenSupersededRecords_whenCompacted_shouldShrinkTheLogAndKeepTheState() throws IOException {
+        final var path = directory.resolve("categories.log");
+        final Category filmes;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            for (int i = 0; i < 100; i++) {
+                gateway.update(Category.with(filmes).update("Filmes " + i, null, true));
+            }
+            final var before = gateway.sizeInBytes();
+
+            gateway.compact();
+
+            Assertions.assertTrue(gateway.sizeInBytes() * 50 < before);
+            Assertions.assertEquals(gateway.sizeInBytes(), Files.size(path));
+        }
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertEquals("Filmes 99", gateway.findById(filmes.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenChangesAfterACompaction_whenReopened_shouldApplyTheLogOverTheSnapshot() throws IOException {
+        final var path = directory.resolve("categories.log");
+        final Category filmes;
+        final Category series;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            series = gateway.create(Category.newCategory("Series", null, true));
+            gateway.compact();
+            gateway.deleteById(filmes.getId());
+            gateway.update(Category.with(series).update("Series e TV", null, true));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+            Assertions.assertEquals("Series e TV", gateway.findById(series.getId()).orElseThrow().getName());
+            Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        }
+    }
+
+    @Test
+    public void givenAnAppendThatFails_whenReopened_shouldKeepOnlyTheAcknowledgedWrites() throws IOException {
+        final var path = directory.resolve("categories.log");
+        final var gateway = FileCategoryGateway.open(path);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.close();
+
+        final var series = Category.newCategory("Series", null, true);
+        Assertions.assertThrows(UncheckedIOException.class, () -> gateway.create(series));
+        Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+        Assertions.assertThrows(UncheckedIOException.class, () -> gateway.deleteById(filmes.getId()));
+
+        try (final var reopened = FileCategoryGateway.open(path)) {
+            Assertions.assertTrue(reopened.findById(filmes.getId()).isPresent());
+            Assertions.assertTrue(reopened.findById(series.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenReopened_shouldHaveEveryAcknowledgedWrite() throws Exception {
+        final var path = directory.resolve("categories.log");
+        try (final var gateway = FileCategoryGateway.open(path, 1024);
+             final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = new ArrayList<Future<?>>();
+            for (int writer = 0; writer < 8; writer++) {
+                final var prefix = "Writer " + writer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        final var category = gateway.create(Category.newCategory(prefix + " " + i, null, true));
+                        gateway.update(Category.with(category).update(prefix + " updated " + i, null, true));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertEquals(400, gateway.count(new CategorySearchQuery(0, 10, "updated", "name", "asc")));
+        }
+    }
+
+    @Test
+    public void givenWritesPastTheThreshold_whenCompactedInTheBackground_shouldKeepEveryWriteVisible() {
+        final var path = directory.resolve("categories.log");
+        final var ids = new ArrayList<CategoryId>();
+        try (final var gateway = FileCategoryGateway.open(path, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                final var created = gateway.create(Category.newCategory("Categoria " + i, null, true));
+                ids.add(created.getId());
+                Assertions.assertTrue(gateway.findById(created.getId()).isPresent());
+            }
+
+            gateway.compact();
+
+            Assertions.assertEquals(0, gateway.sizeInBytes());
+            Assertions.assertEquals(500, gateway.findAllById(ids).size());
+        }
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertEquals(500, gateway.count(new CategorySearchQuery(0, 10, "categoria", "name", "asc")));
+            Assertions.assertEquals(500, gateway.changesSince(null, 1000).changes().size());
+        }
+    }
+
+    @Test
+    public void givenACategoryLargerThanARecord_whenCallsCreate_shouldRejectItAndKeepTheLogReplayable() {
+        final var path = directory.resolve("categories.log");
+        final var huge = Category.newCategory("Filmes", "a".repeat(CategoryLogRecords.MAX_BODY_BYTES), true);
+        final Category series;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            final var actual = Assertions.assertThrows(
+                    DomainException.class,
+                    () -> gateway.createAll(List.of(Category.newCategory("Animes", null, true), huge))
+            );
+            series = gateway.create(Category.newCategory("Series", null, true));
+
+            Assertions.assertEquals(CategoryErrors.TOO_LARGE, actual.getErrors().getFirst());
+            Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            Assertions.assertTrue(gateway.findById(series.getId()).isPresent());
+            Assertions.assertTrue(gateway.findById(huge.getId()).isEmpty());
+        }
+    }
+
+    @Test
+    public void givenAWatermarkFromBeforeAReopen_whenCallsChangesSince_shouldResumeFromIt() {
+        final var path = directory.resolve("categories.log");
+        final Category filmes;
+        final Category animes;
+        final CategoryWatermark beforeDelete;
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            gateway.create(Category.newCategory("Series", null, true));
+            beforeDelete = gateway.changesSince(null, 10).watermark();
+            gateway.deleteById(filmes.getId());
+            animes = gateway.create(Category.newCategory("Animes", null, true));
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            assertDeleteThenCreate(gateway.changesSince(beforeDelete, 10).changes(), filmes, animes);
+            gateway.compact();
+        }
+
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            final var fromScratch = gateway.changesSince(null, 10);
+            final var kids = gateway.create(Category.newCategory("Kids", null, true));
+
+            assertDeleteThenCreate(gateway.changesSince(beforeDelete, 10).changes().subList(0, 2), filmes, animes);
+            Assertions.assertEquals(3, fromScratch.changes().size());
+            Assertions.assertEquals(List.of(kids.getId()), ids(gateway.changesSince(fromScratch.watermark(), 10).changes()));
+        }
+    }
+
+    private static void assertDeleteThenCreate(final List<CategoryChange> changes, final Category deleted, final Category created) {
+        Assertions.assertEquals(2, changes.size());
+        Assertions.assertTrue(changes.get(0).isDeleted());
+        Assertions.assertEquals(deleted.getId(), changes.get(0).id());
+        Assertions.assertEquals(created.getName(), changes.get(1).category().getName());
+    }
+
+    private static List<CategoryId> ids(final List<CategoryChange> changes) {
+        return changes.stream().map(CategoryChange::id).toList();
+    }
+    @Test
+    public void givenAnExistingOrMissingId_whenCallsCreateOrUpdate_shouldRejectTheWriteWithoutLoggingIt() {
+        final var path = directory.resolve("categories.log");
+        try (final var gateway = FileCategoryGateway.open(path)) {
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            final var series = Category.newCategory("Series", null, true);
+            final var logged = gateway.sizeInBytes();
+
+            final var actualCreate = Assertions.assertThrows(
+                    DomainException.class,
+                    () -> gateway.create(Category.with(filmes).update("Animes", null, true))
+            );
+            final var actualUpdate = Assertions.assertThrows(DomainException.class, () -> gateway.updateAll(List.of(series)));
+
+            Assertions.assertEquals(CategoryErrors.ALREADY_EXISTS, actualCreate.getErrors().get(0));
+            Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualUpdate.getErrors().get(0));
+            Assertions.assertEquals(logged, gateway.sizeInBytes());
+            Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        }
+    }
+}
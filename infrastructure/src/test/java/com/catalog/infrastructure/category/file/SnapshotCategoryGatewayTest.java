@@ -0,0 +1,158 @@
+package com.catalog.infrastructure.category.file;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.infrastructure.category.index.CategoryChangeLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SnapshotCategoryGatewayTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenASnapshot_whenCallsFindById_shouldDecodeTheCategoryOnDemand() throws IOException {
+        final var path = directory.resolve("categories.snapshot");
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", false);
+        CategorySnapshot.write(path, List.of(Category.newCategory("Series", null, true), filmes));
+
+        final var snapshot = CategorySnapshot.open(path);
+        final var gateway = new SnapshotCategoryGateway(snapshot);
+        final var actual = gateway.findById(filmes.getId()).orElseThrow();
+
+        Assertions.assertEquals(2, snapshot.size());
+        Assertions.assertEquals("A categoria mais assistida", actual.getDescription());
+        Assertions.assertEquals(filmes.getDeletedAt(), actual.getDeletedAt());
+        Assertions.assertNotSame(actual, gateway.findById(filmes.getId()).orElseThrow());
+        Assertions.assertTrue(gateway.findById(Category.newCategory("Kids", null, true).getId()).isEmpty());
+    }
+
+    @Test
+    public void givenASnapshotWithAChangeLog_whenCallsChangesSince_shouldResumeIt() {
+        final var path = directory.resolve("categories.snapshot");
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var changeLog = new CategoryChangeLog(CategoryChangeLog.DEFAULT_TOMBSTONE_RETENTION);
+        changeLog.upserted(filmes.getId(), filmes.getUpdatedAt());
+        changeLog.upserted(series.getId(), series.getUpdatedAt());
+        CategorySnapshot.write(path, List.of(filmes, series).iterator(), changeLog);
+        final var gateway = new SnapshotCategoryGateway(CategorySnapshot.open(path));
+
+        final var fromScratch = gateway.changesSince(null, 10);
+        gateway.deleteById(filmes.getId());
+        final var actual = gateway.changesSince(fromScratch.watermark(), 10).changes();
+
+        Assertions.assertEquals(List.of("Filmes", "Series"), fromScratch.changes().stream().map(change -> change.category().getName()).toList());
+        Assertions.assertEquals(1, actual.size());
+        Assertions.assertTrue(actual.getFirst().isDeleted());
+        Assertions.assertEquals(filmes.getId(), actual.getFirst().id());
+    }
+
+    @Test
+    public void givenASnapshotTooLargeToMap_whenCallsWrite_shouldFailWithoutAValidHeader() {
+        final var path = directory.resolve("categories.snapshot");
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 100; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> CategorySnapshot.write(path, categories.iterator(), null, 1024));
+        Assertions.assertThrows(IllegalStateException.class, () -> CategorySnapshot.open(path));
+    }
+
+    @Test
+    public void givenWritesOverASnapshot_whenCallsFindAll_shouldMergeBothInSortOrder() throws IOException {
+        final var path = directory.resolve("categories.snapshot");
+        final var stored = new ArrayList<Category>();
+        for (final var name : List.of("Animes", "Documentarios", "Filmes", "Series")) {
+            stored.add(Category.newCategory(name, null, true));
+        }
+        CategorySnapshot.write(path, stored);
+        final var gateway = new SnapshotCategoryGateway(CategorySnapshot.open(path));
+
+        gateway.create(Category.newCategory("Kids", null, true));
+        gateway.create(Category.newCategory("Esportes", null, true));
+        gateway.update(Category.with(stored.get(0)).update("Zumbis", null, true));
+        gateway.deleteById(stored.get(2).getId());
+
+        final var firstPage = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+        final var secondPage = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc", firstPage.nextCursor()));
+        final var descending = gateway.findAll(new CategorySearchQuery(1, 2, "", "name", "desc"));
+        final var fromSnapshot = gateway.findAll(new CategorySearchQuery(0, 10, "s", "name", "asc"));
+        final var fromOverlay = gateway.findAll(new CategorySearchQuery(0, 10, "z", "name", "asc"));
+
+        Assertions.assertEquals(5, firstPage.total());
+        Assertions.assertEquals(List.of("Documentarios", "Esportes", "Kids"), names(firstPage.items()));
+        Assertions.assertEquals(List.of("Series", "Zumbis"), names(secondPage.items()));
+        Assertions.assertNull(secondPage.nextCursor());
+        Assertions.assertEquals(List.of("Kids", "Esportes"), names(descending.items()));
+        Assertions.assertEquals(List.of("Series"), names(fromSnapshot.items()));
+        Assertions.assertEquals(1, fromSnapshot.total());
+        Assertions.assertEquals(List.of("Zumbis"), names(fromOverlay.items()));
+        Assertions.assertEquals(0, gateway.count(new CategorySearchQuery(0, 10, "animes", "name", "asc")));
+    }
+
+    @Test
+    public void givenASnapshotWithATermIndex_whenCallsFindAllWithTerms_shouldPageInSortOrder() throws IOException {
+        final var path = directory.resolve("categories.snapshot");
+        final var stored = new ArrayList<Category>();
+        final var expectedNames = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            stored.add(Category.newCategory("Categoria %03d".formatted(i), i % 2 == 0 ? "Série" : null, true));
+            if (i % 20 == 0) {
+                final var name = "Filme %03d".formatted(i);
+                expectedNames.addFirst(name);
+                stored.add(Category.newCategory(name, "Ação", true));
+            }
+        }
+        CategorySnapshot.write(path, stored.iterator());
+        final var gateway = new SnapshotCategoryGateway(CategorySnapshot.open(path));
+        gateway.deleteById(stored.get(0).getId());
+
+        final var actualFilmes = gateway.stream(new CategorySearchQuery(0, 3, "acao", "name", "desc")).map(Category::getName).toList();
+        final var actualSeries = gateway.findAll(new CategorySearchQuery(2, 10, "SERIE categ", "name", "asc"));
+
+        Assertions.assertEquals(expectedNames, actualFilmes);
+        Assertions.assertEquals(99, actualSeries.total());
+        Assertions.assertEquals("Categoria 042", actualSeries.items().getFirst().getName());
+        Assertions.assertEquals(10, gateway.count(new CategorySearchQuery(0, 10, "filme", "name", "asc")));
+        Assertions.assertEquals(0, gateway.count(new CategorySearchQuery(0, 10, "terror", "name", "asc")));
+    }
+
+    @Test
+    public void givenAnExistingOrMissingId_whenCallsCreateOrUpdate_shouldRejectTheWrite() {
+        final var path = directory.resolve("categories.snapshot");
+        final var filmes = Category.newCategory("Filmes", null, true);
+        CategorySnapshot.write(path, List.of(filmes));
+        final var gateway = new SnapshotCategoryGateway(CategorySnapshot.open(path));
+        final var series = Category.newCategory("Series", null, true);
+
+        final var actualCreate = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.create(Category.with(filmes).update("Animes", null, true))
+        );
+        final var actualUpdate = Assertions.assertThrows(DomainException.class, () -> gateway.update(series));
+        gateway.update(Category.with(filmes).update("Filmes Antigos", null, true));
+        gateway.update(Category.with(filmes).update("Filmes Classicos", null, true));
+
+        Assertions.assertEquals(CategoryErrors.ALREADY_EXISTS, actualCreate.getErrors().get(0));
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualUpdate.getErrors().get(0));
+        Assertions.assertEquals("Filmes Classicos", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+        Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.catalog.infrastructure.category.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+
+public class IntSetTest {
+
+    @Test
+    public void givenRandomAddsAndRemoves_whenCrossingTheDensityThreshold_shouldKeepTheSameContents() {
+        final var random = new Random(7);
+        final var set = new IntSet();
+        final var expected = new HashSet<Integer>();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20_000; i++) {
+                final var value = random.nextInt(8_000);
+                Assertions.assertEquals(expected.add(value), set.add(value));
+            }
+            assertSameContents(expected, set);
+            for (int i = 0; i < 30_000; i++) {
+                final var value = random.nextInt(8_000);
+                Assertions.assertEquals(expected.remove(value), set.remove(value));
+            }
+            assertSameContents(expected, set);
+        }
+    }
+
+    private static void assertSameContents(final HashSet<Integer> expected, final IntSet actual) {
+        final var bits = new BitSet();
+        actual.addTo(bits);
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(expected.size(), bits.cardinality());
+        expected.forEach(value -> Assertions.assertTrue(bits.get(value)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.catalog.infrastructure.category.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class RankedIndexTest {
+
+    @Test
+    public void givenRandomInsertsAndRemoves_whenCallsSlice_shouldMatchSortedSet() {
+        final var random = new Random(42);
+        final var index = new RankedIndex<Integer>(Comparator.naturalOrder());
+        final var expected = new TreeSet<Integer>();
+
+        for (int i = 0; i < 5_000; i++) {
+            final var value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(value), index.remove(value));
+            } else {
+                Assertions.assertEquals(expected.add(value), index.add(value));
+            }
+        }
+
+        final var ascending = new ArrayList<>(expected);
+        final var descending = new ArrayList<>(expected.descendingSet());
+        Assertions.assertEquals(expected.size(), index.size());
+        for (final var offset : List.of(0, 1, 17, ascending.size() - 3, ascending.size() + 5)) {
+            Assertions.assertEquals(window(ascending, offset, 10), index.slice(offset, 10, false));
+            Assertions.assertEquals(window(descending, offset, 10), index.slice(offset, 10, true));
+        }
+    }
+
+    @Test
+    public void givenAnEmptyIndex_whenCallsSlice_shouldReturnEmptyList() {
+        final var index = new RankedIndex<String>(Comparator.naturalOrder());
+
+        Assertions.assertTrue(index.slice(0, 10, false).isEmpty());
+        Assertions.assertFalse(index.iterator(0, true).hasNext());
+    }
+
+    private static List<Integer> window(final List<Integer> values, final int offset, final int limit) {
+        if (offset >= values.size()) {
+            return List.of();
+        }
+        return values.subList(offset, Math.min(values.size(), offset + limit));
+    }
+}
@@ -0,0 +1,189 @@
+package com.catalog.infrastructure.category.offheap;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryErrors;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategorySearchQuery;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.infrastructure.category.index.CategorySort;
+import com.catalog.infrastructure.category.index.CategoryTerms;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class OffHeapCategoryGatewayTest {
+
+    @Test
+    public void givenWritesAndDeletes_whenCallsChangesSince_shouldServeThemInChangeOrder() {
+        final var gateway = new OffHeapCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var watermark = gateway.changesSince(null, 10).watermark();
+        gateway.deleteById(filmes.getId());
+        gateway.update(Category.with(series).update("Series Antigas", null, true));
+
+        final var actual = gateway.changesSince(watermark, 10).changes();
+
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertTrue(actual.get(0).isDeleted());
+        Assertions.assertEquals(filmes.getId(), actual.get(0).id());
+        Assertions.assertEquals("Series Antigas", actual.get(1).category().getName());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallsFindById_shouldDecodeAFreshInstance() {
+        final var gateway = new OffHeapCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+        final var actual = gateway.findById(filmes.getId()).orElseThrow();
+        gateway.update(Category.with(filmes).update("Series", null, false));
+        final var updated = gateway.findById(filmes.getId()).orElseThrow();
+        gateway.deleteById(filmes.getId());
+
+        Assertions.assertNotSame(filmes, actual);
+        Assertions.assertEquals("Filmes", actual.getName());
+        Assertions.assertEquals(filmes.getCreatedAt(), actual.getCreatedAt());
+        Assertions.assertEquals("Series", updated.getName());
+        Assertions.assertFalse(updated.isActive());
+        Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenManyRewrites_whenGarbageOutgrowsLiveData_shouldCompactAndKeepEveryCategory() {
+        final var gateway = new OffHeapCategoryGateway(4096);
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 1000; i++) {
+            categories.add(gateway.create(Category.newCategory("Categoria " + i, null, true)));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (final var category : categories) {
+                gateway.update(Category.with(category).update(category.getName() + " v" + round, null, true));
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            gateway.deleteById(categories.get(i).getId());
+        }
+
+        Assertions.assertTrue(gateway.offHeapBytes() < 20 * 4096);
+        Assertions.assertEquals(500, gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        Assertions.assertTrue(gateway.findById(categories.get(10).getId()).isEmpty());
+        Assertions.assertEquals("Categoria 999 v4", gateway.findById(categories.get(999).getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsFindAll_shouldReturnTheRequestedPageInSortOrder() {
+        final var gateway = new OffHeapCategoryGateway();
+        for (final var name : List.of("Series", "Documentarios", "Filmes", "Animes", "Kids", "Filmes Antigos")) {
+            gateway.create(Category.newCategory(name, null, true));
+        }
+
+        final var firstPage = gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc"));
+        final var secondPage = gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "asc", firstPage.nextCursor()));
+        final var lastPage = gateway.findAll(new CategorySearchQuery(2, 2, "", "name", "desc"));
+        final var withTerms = gateway.findAll(new CategorySearchQuery(0, 10, "film", "name", "desc"));
+
+        Assertions.assertEquals(6, firstPage.total());
+        Assertions.assertEquals(List.of("Animes", "Documentarios"), names(firstPage.items()));
+        Assertions.assertEquals(List.of("Filmes", "Filmes Antigos"), names(secondPage.items()));
+        Assertions.assertEquals(List.of("Documentarios", "Animes"), names(lastPage.items()));
+        Assertions.assertNull(lastPage.nextCursor());
+        Assertions.assertEquals(List.of("Filmes Antigos", "Filmes"), names(withTerms.items()));
+        Assertions.assertEquals(2, withTerms.total());
+    }
+
+    @Test
+    public void givenRenamedAndDeletedCategories_whenSearchesByTerms_shouldOnlyMatchTheirCurrentNames() {
+        final var gateway = new OffHeapCategoryGateway(4096);
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = gateway.create(Category.newCategory("Series", null, true));
+        final var kids = gateway.create(Category.newCategory("Filmes Kids", null, true));
+        gateway.update(Category.with(series).update("Filmes em Serie", null, true));
+        gateway.update(Category.with(filmes).update("Documentarios", null, true));
+        gateway.deleteById(kids.getId());
+
+        final var byName = gateway.findAll(new CategorySearchQuery(0, 10, "film", "name", "asc"));
+        final var byCreation = gateway.findAll(new CategorySearchQuery(0, 10, "", "createdAt", "desc"));
+
+        Assertions.assertEquals(List.of("Filmes em Serie"), names(byName.items()));
+        Assertions.assertEquals(1, byName.total());
+        Assertions.assertEquals(1, gateway.count(new CategorySearchQuery(0, 10, "film", "name", "asc")));
+        Assertions.assertEquals(0, gateway.count(new CategorySearchQuery(0, 10, "kids", "name", "asc")));
+        Assertions.assertEquals(List.of("Filmes em Serie", "Documentarios"), names(byCreation.items()));
+    }
+
+    @Test
+    public void givenWritesAcrossSeveralFolds_whenWalksEveryOrder_shouldMatchTheStoredCategories() {
+        final var gateway = new OffHeapCategoryGateway(4096);
+        final var stored = new HashMap<CategoryId, Category>();
+        for (int i = 0; i < 3000; i++) {
+            final var created = gateway.create(Category.newCategory((i % 2 == 0 ? "Filmes " : "Series ") + i, null, true));
+            stored.put(created.getId(), created);
+        }
+        final var ids = new ArrayList<>(stored.keySet());
+        for (int i = 0; i < ids.size(); i += 3) {
+            final var renamed = gateway.update(Category.with(stored.get(ids.get(i))).update("Documentarios " + i, null, true));
+            stored.put(renamed.getId(), renamed);
+        }
+        for (int i = 1; i < ids.size(); i += 5) {
+            gateway.deleteById(ids.get(i));
+            stored.remove(ids.get(i));
+        }
+
+        for (final var sort : List.of("name", "createdAt", "updatedAt")) {
+            for (final var direction : List.of("asc", "desc")) {
+                final var comparator = CategorySort.from(sort).comparator();
+                final var expected = stored.values().stream()
+                        .sorted("desc".equals(direction) ? comparator.reversed() : comparator)
+                        .map(Category::getId)
+                        .toList();
+                final var actual = new ArrayList<CategoryId>();
+                var page = gateway.findAll(new CategorySearchQuery(0, 97, null, sort, direction));
+                page.items().forEach(category -> actual.add(category.getId()));
+                while (page.nextCursor() != null) {
+                    page = gateway.findAll(new CategorySearchQuery(0, 97, null, sort, direction, page.nextCursor()));
+                    page.items().forEach(category -> actual.add(category.getId()));
+                }
+                Assertions.assertEquals(expected, actual, sort + " " + direction);
+            }
+        }
+        final var documentarios = stored.values().stream().filter(category -> category.getName().startsWith("Documentarios")).count();
+        final var filmes = stored.values().stream().filter(category -> category.getName().startsWith("Filmes")).count();
+        Assertions.assertEquals(stored.size(), gateway.count(new CategorySearchQuery(0, 10, null, "name", "asc")));
+        Assertions.assertEquals(documentarios, gateway.count(new CategorySearchQuery(0, 10, "docu", "name", "asc")));
+        Assertions.assertEquals(filmes, gateway.findAll(new CategorySearchQuery(0, 10, "filmes", "name", "asc")).total());
+        Assertions.assertEquals(
+                stored.values().stream()
+                        .filter(category -> CategoryTerms.matches(category, CategoryTerms.tokenize("filmes 10")))
+                        .sorted(CategorySort.NAME.comparator())
+                        .limit(3)
+                        .map(Category::getName)
+                        .toList(),
+                names(gateway.findAll(new CategorySearchQuery(0, 3, "filmes 10", "name", "asc")).items())
+        );
+    }
+
+    @Test
+    public void givenAnExistingOrMissingId_whenCallsCreateOrUpdate_shouldRejectTheWrite() {
+        final var gateway = new OffHeapCategoryGateway();
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+        final var series = Category.newCategory("Series", null, true);
+
+        final var actualCreate = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.createAll(List.of(series, Category.with(filmes).update("Animes", null, true)))
+        );
+        final var actualUpdate = Assertions.assertThrows(DomainException.class, () -> gateway.update(series));
+
+        Assertions.assertEquals(CategoryErrors.ALREADY_EXISTS, actualCreate.getErrors().get(0));
+        Assertions.assertEquals(CategoryErrors.NOT_FOUND, actualUpdate.getErrors().get(0));
+        Assertions.assertEquals("Filmes", gateway.findById(filmes.getId()).orElseThrow().getName());
+        Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+    }
+
+    private static List<String> names(final List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+}
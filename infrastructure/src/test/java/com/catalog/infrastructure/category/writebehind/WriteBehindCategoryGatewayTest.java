@@ -0,0 +1,151 @@
+package com.catalog.infrastructure.category.writebehind;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+public class WriteBehindCategoryGatewayTest {
+
+    @Test
+    public void givenRepeatedUpdatesToOneCategory_whenFlushed_shouldWriteOnlyTheLatestState() {
+        final var backing = new CountingCategoryGateway();
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 100, 1000, Duration.ofHours(1), (id, error) -> { })) {
+            final var category = gateway.create(Category.newCategory("Film", null, true));
+            for (final var name : List.of("Filme", "Filmes", "Filmes e Series")) {
+                gateway.update(Category.with(category).update(name, null, true));
+            }
+
+            Assertions.assertEquals("Filmes e Series", gateway.findById(category.getId()).orElseThrow().getName());
+            Assertions.assertTrue(backing.findById(category.getId()).isEmpty());
+
+            gateway.flush();
+
+            Assertions.assertEquals("Filmes e Series", backing.findById(category.getId()).orElseThrow().getName());
+            Assertions.assertEquals(1, backing.writes.get());
+            Assertions.assertEquals(0, gateway.pendingCount());
+        }
+    }
+
+    @Test
+    public void givenACreateFollowedByADelete_whenFlushed_shouldNotWriteAnything() {
+        final var backing = new CountingCategoryGateway();
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 100, 1000, Duration.ofHours(1), (id, error) -> { })) {
+            final var category = gateway.create(Category.newCategory("Filmes", null, true));
+            gateway.deleteById(category.getId());
+
+            Assertions.assertTrue(gateway.findById(category.getId()).isEmpty());
+            gateway.flush();
+
+            Assertions.assertEquals(0, backing.writes.get());
+        }
+    }
+
+    @Test
+    public void givenADeleteFollowedByACreate_whenFlushed_shouldReplaceTheStoredCategory() {
+        final var backing = new CountingCategoryGateway();
+        final var stored = backing.create(Category.newCategory("Filmes", null, true));
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 100, 1000, Duration.ofHours(1), (id, error) -> { })) {
+            gateway.deleteById(stored.getId());
+            gateway.create(Category.with(stored).update("Series", null, true));
+
+            gateway.flush();
+
+            Assertions.assertEquals("Series", backing.findById(stored.getId()).orElseThrow().getName());
+            Assertions.assertEquals(3, backing.writes.get());
+        }
+    }
+
+    @Test
+    public void givenADelegateAndACallbackThatThrow_whenFlushed_shouldStopServingTheFailedWriteAndKeepFlushing() throws InterruptedException {
+        final var backing = new CountingCategoryGateway() {
+            @Override
+            public Category update(final Category category) {
+                throw new AssertionError("rejected");
+            }
+        };
+        final var stored = backing.create(Category.newCategory("Filmes", null, true));
+        final var failures = new AtomicInteger();
+        final BiConsumer<CategoryId, Throwable> onFailure = (id, error) -> {
+            failures.incrementAndGet();
+            throw new IllegalStateException("callback failed");
+        };
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 1, 1, Duration.ofMillis(5), onFailure)) {
+            gateway.update(Category.with(stored).update("Series", null, true));
+            final var animes = gateway.create(Category.newCategory("Animes", null, true));
+
+            awaitPresent(backing, animes.getId());
+
+            Assertions.assertEquals(1, failures.get());
+            Assertions.assertEquals("Filmes", gateway.findById(stored.getId()).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void givenAFullBatch_whenWaiting_shouldFlushWithoutAnExplicitCall() throws InterruptedException {
+        final var backing = new CountingCategoryGateway();
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 2, 10, Duration.ofHours(1), (id, error) -> { })) {
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+            final var series = gateway.create(Category.newCategory("Series", null, true));
+
+            awaitPresent(backing, series.getId());
+
+            Assertions.assertTrue(backing.findById(filmes.getId()).isPresent());
+            Assertions.assertEquals(1, backing.writes.get());
+        }
+    }
+
+    @Test
+    public void givenAnOldPendingWrite_whenTheMaxDelayElapses_shouldFlushIt() throws InterruptedException {
+        final var backing = new CountingCategoryGateway();
+        try (final var gateway = new WriteBehindCategoryGateway(backing, 100, 1000, Duration.ofMillis(20), (id, error) -> { })) {
+            final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+            awaitPresent(backing, filmes.getId());
+
+            Assertions.assertEquals(0, gateway.pendingCount());
+        }
+    }
+
+    private static void awaitPresent(final CountingCategoryGateway backing, final CategoryId id) throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (backing.findById(id).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertTrue(backing.findById(id).isPresent());
+    }
+
+    private static class CountingCategoryGateway extends InMemoryCategoryGateway {
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public Category create(final Category category) {
+            writes.incrementAndGet();
+            return super.create(category);
+        }
+
+        @Override
+        public List<Category> createAll(final List<Category> categories) {
+            writes.incrementAndGet();
+            return super.createAll(categories);
+        }
+
+        @Override
+        public Category update(final Category category) {
+            writes.incrementAndGet();
+            return super.update(category);
+        }
+
+        @Override
+        public void deleteById(final CategoryId id) {
+            writes.incrementAndGet();
+            super.deleteById(id);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.catalog.infrastructure.event;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryCreated;
+import com.catalog.domain.category.CategoryEvent;
+import com.catalog.domain.category.CategoryId;
+import com.catalog.domain.category.CategoryUpdated;
+import com.catalog.domain.event.DomainEvent;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DomainEventDispatcherTest {
+
+    @Test
+    public void givenAGatewayWithAnOutbox_whenCategoriesAreWritten_shouldDispatchTheirEventsInOrder() {
+        final var outbox = new DomainEventOutbox(16);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+
+        final Category created;
+        final var dispatcher = new DomainEventDispatcher(outbox, 4, List.of(received::addAll), (batch, ex) -> {});
+        try (dispatcher) {
+            created = gateway.create(Category.newCategory("Filmes", null, true));
+            final var found = gateway.findById(created.getId()).orElseThrow();
+            gateway.update(found.update("Series", null, true));
+        }
+
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertInstanceOf(CategoryCreated.class, received.get(0));
+        final var updated = Assertions.assertInstanceOf(CategoryUpdated.class, received.get(1));
+        Assertions.assertEquals(created.getId(), updated.categoryId());
+        Assertions.assertEquals("Series", updated.name());
+        Assertions.assertFalse(created.hasDomainEvents());
+        Assertions.assertEquals(0, outbox.size());
+    }
+
+    @Test
+    public void givenManyWritersAndASmallOutbox_whenDispatching_shouldDeliverEveryEventInBatches() throws Exception {
+        final var outbox = new DomainEventOutbox(8);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        final var writers = 4;
+        final var writesPerWriter = 500;
+        final var batches = new AtomicInteger();
+        final var lastNameById = new HashMap<CategoryId, String>();
+        final DomainEventSubscriber subscriber = events -> {
+            batches.incrementAndGet();
+            for (final var event : events) {
+                if (event instanceof CategoryUpdated updated) {
+                    lastNameById.put(updated.categoryId(), updated.name());
+                }
+            }
+        };
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 8, List.of(subscriber), (batch, ex) -> {});
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = 0; i < writers; i++) {
+            ids.add(gateway.create(Category.newCategory("0", null, true)).getId());
+        }
+        final var start = new CountDownLatch(1);
+        try (final var executor = Executors.newFixedThreadPool(writers)) {
+            for (final var id : ids) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int j = 1; j <= writesPerWriter; j++) {
+                        final var category = gateway.findById(id).orElseThrow();
+                        gateway.update(category.update(String.valueOf(j), null, true));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        dispatcher.close();
+
+        Assertions.assertEquals(writers + writers * writesPerWriter, dispatcher.dispatchedCount());
+        Assertions.assertTrue(batches.get() <= dispatcher.dispatchedCount());
+        for (final var id : ids) {
+            Assertions.assertEquals(String.valueOf(writesPerWriter), lastNameById.get(id));
+        }
+    }
+
+    @Test
+    public void givenAFailingSubscriber_whenDispatching_shouldReportTheBatchAndKeepServingTheOthers() {
+        final var outbox = new DomainEventOutbox(4);
+        final var failures = new ArrayList<List<DomainEvent>>();
+        final var received = new ArrayList<DomainEvent>();
+        final DomainEventSubscriber failing = events -> {
+            throw new IllegalStateException("index is down");
+        };
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 4, List.of(failing, received::addAll), (batch, ex) -> failures.add(batch));
+        try (dispatcher) {
+            outbox.tryAppend(Category.newCategory("Filmes", null, true).pullDomainEvents());
+            Assertions.assertThrows(
+                    IllegalStateException.class,
+                    () -> new DomainEventDispatcher(outbox, 4, List.of(), (batch, ex) -> {})
+            );
+        }
+
+        Assertions.assertEquals(1, received.size());
+        Assertions.assertEquals(1, failures.size());
+        Assertions.assertInstanceOf(CategoryEvent.class, failures.get(0).get(0));
+    }
+
+    @Test
+    public void givenABatchWithMoreEventsThanTheOutboxHolds_whenCreated_shouldStoreItInStepsAndDispatchEveryEvent() {
+        final var outbox = new DomainEventOutbox(4);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 10; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 2, List.of(received::addAll), (batch, ex) -> {});
+        try (dispatcher) {
+            gateway.createAll(categories);
+        }
+
+        Assertions.assertEquals(10, received.size());
+        for (int i = 0; i < 10; i++) {
+            final var created = Assertions.assertInstanceOf(CategoryCreated.class, received.get(i));
+            Assertions.assertEquals(categories.get(i).getId(), created.categoryId());
+            Assertions.assertTrue(gateway.findById(categories.get(i).getId()).isPresent());
+        }
+    }
+
+    @Test
+    public void givenAnAggregateWithMoreEventsThanTheOutboxHolds_whenCreated_shouldStoreItBeforeItsEventsAreDispatched() {
+        final var outbox = new DomainEventOutbox(1);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var visible = Collections.synchronizedList(new ArrayList<Boolean>());
+        final DomainEventSubscriber subscriber = events -> {
+            for (final var event : events) {
+                visible.add(gateway.findById(((CategoryEvent) event).categoryId()).isPresent());
+            }
+            received.addAll(events);
+        };
+        final var series = Category.newCategory("Series", null, true);
+        final var filmes = Category.newCategory("Filmes", null, true)
+                .update("Filmes Antigos", null, true)
+                .update("Filmes", null, true);
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 1, List.of(subscriber), (batch, ex) -> {});
+        try (dispatcher) {
+            gateway.createAll(List.of(series, filmes));
+        }
+
+        Assertions.assertEquals(4, received.size());
+        Assertions.assertInstanceOf(CategoryCreated.class, received.get(0));
+        Assertions.assertInstanceOf(CategoryCreated.class, received.get(1));
+        Assertions.assertInstanceOf(CategoryUpdated.class, received.get(3));
+        Assertions.assertEquals(List.of(true, true, true, true), visible);
+    }
+
+    @Test
+    public void givenASubscriberThrowingAnErrorAndAFailingOnFailure_whenDispatching_shouldKeepDispatching() {
+        final var outbox = new DomainEventOutbox(4);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        final var received = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final DomainEventSubscriber failing = events -> {
+            throw new AssertionError("index is down");
+        };
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 1, List.of(failing, received::addAll), (batch, ex) -> {
+            throw new IllegalStateException("alerting is down too");
+        });
+        try (dispatcher) {
+            gateway.create(Category.newCategory("Filmes", null, true));
+            gateway.create(Category.newCategory("Series", null, true));
+            gateway.create(Category.newCategory("Animes", null, true));
+        }
+
+        Assertions.assertEquals(3, received.size());
+    }
+
+    @Test
+    public void givenAFullOutbox_whenTheDispatcherDrainsIt_shouldWakeTheProducerWaitingForRoom() throws Exception {
+        final var outbox = new DomainEventOutbox(1);
+        outbox.tryAppend(Category.newCategory("Filmes", null, true).pullDomainEvents());
+        final var waiting = CompletableFuture.runAsync(() -> outbox.awaitCapacity(1));
+
+        final var dispatcher = new DomainEventDispatcher(outbox, 1, List.of(events -> {}), (batch, ex) -> {});
+        try (dispatcher) {
+            waiting.get(5, TimeUnit.SECONDS);
+        }
+
+        Assertions.assertEquals(1, dispatcher.dispatchedCount());
+        Assertions.assertTrue(outbox.isClosed());
+    }
+
+    @Test
+    public void givenAClosedDispatcher_whenCategoriesAreWritten_shouldFailInsteadOfWaitingForRoom() {
+        final var outbox = new DomainEventOutbox(1);
+        final var gateway = new InMemoryCategoryGateway(outbox);
+        new DomainEventDispatcher(outbox, 1, List.of(events -> {}), (batch, ex) -> {}).close();
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.create(filmes));
+        Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package com.catalog.infrastructure.time;
+
+import com.catalog.application.category.create.CreateCategoryCommand;
+import com.catalog.application.category.create.DefaultBulkCreateCategoryUseCase;
+import com.catalog.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CoarseClockTest {
+
+    @Test
+    public void givenACoarseClock_whenTheSourceMoves_shouldServeTheCachedInstantUntilTheNextTick() throws Exception {
+        final var sourceNow = new AtomicReference<>(Instant.parse("2024-01-01T00:00:00Z"));
+        final var source = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return sourceNow.get();
+            }
+        };
+
+        try (final var clock = CoarseClock.start(source, Duration.ofMillis(5))) {
+            Assertions.assertEquals(Instant.parse("2024-01-01T00:00:00Z"), clock.instant());
+            Assertions.assertSame(clock.instant(), clock.instant());
+
+            sourceNow.set(Instant.parse("2024-01-01T00:00:01Z"));
+            final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!clock.instant().equals(sourceNow.get()) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            Assertions.assertEquals(Instant.parse("2024-01-01T00:00:01Z"), clock.instant());
+
+            sourceNow.set(Instant.parse("2023-12-31T23:59:59Z"));
+            Thread.sleep(20);
+            Assertions.assertEquals(Instant.parse("2024-01-01T00:00:01Z"), clock.instant());
+        }
+    }
+
+    @Test
+    public void givenACoarseClockInjectedAsClock_whenCallsBulkCreate_shouldStampTheBatchFromTheCachedInstant() {
+        final var gateway = new InMemoryCategoryGateway();
+
+        try (final var clock = CoarseClock.start(Duration.ofHours(1))) {
+            final var useCase = new DefaultBulkCreateCategoryUseCase(gateway, clock);
+
+            final var actualOutput = useCase.execute(List.of(
+                    CreateCategoryCommand.with("Filmes", null, true),
+                    CreateCategoryCommand.with("Series", null, true)
+            ));
+
+            for (final var output : actualOutput) {
+                final var actualCategory = gateway.findById(output.get().id()).orElseThrow();
+                Assertions.assertEquals(clock.instant(), actualCategory.getCreatedAt());
+                Assertions.assertEquals(clock.instant(), actualCategory.getUpdatedAt());
+            }
+            Assertions.assertTrue(Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("coarse-clock"))
+                    .allMatch(thread -> thread.isDaemon() && !thread.isVirtual()));
+        }
+    }
+}